@@ -4,6 +4,7 @@ import com.criticalrange.core.FeatureManager;
 import com.criticalrange.features.animation.AnimationFeature;
 import com.criticalrange.features.particle.ParticleFeature;
 import com.criticalrange.features.monitor.MonitorInfoFeature;
+import com.criticalrange.features.optimization.OptimizationFeature;
 import com.criticalrange.config.ConfigurationManager;
 import com.criticalrange.VulkanModExtra;
 import net.fabricmc.api.ClientModInitializer;
@@ -55,6 +56,11 @@ public class VulkanModExtraClient implements ClientModInitializer {
             // Sync vanilla options with our config
             syncVanillaOptions(minecraft);
 
+            // Static container models use the 1.21/1.21.1 model loading hooks
+            if (com.criticalrange.util.VersionHelper.IS_PRE_1_21_2) {
+                com.criticalrange.optimization.container.StaticContainerModelPlugin.register();
+            }
+
             // VulkanMod integration handled through mixins only
 
             LOGGER.info("VulkanMod Extra Client initialized successfully!");
@@ -90,6 +96,7 @@ public class VulkanModExtraClient implements ClientModInitializer {
         featureManager.registerFeature(new AnimationFeature());
         featureManager.registerFeature(new ParticleFeature());
         featureManager.registerFeature(new MonitorInfoFeature());
+        featureManager.registerFeature(new OptimizationFeature());
     }
 
     /**
@@ -180,6 +187,10 @@ public class VulkanModExtraClient implements ClientModInitializer {
             com.criticalrange.util.MappingHelper.clearCache();
             LOGGER.debug("MappingHelper cache cleared");
 
+            // Stop the occlusion culling worker
+            com.criticalrange.optimization.occlusion.OcclusionCuller.shutdown();
+            LOGGER.debug("Occlusion culler stopped");
+
         } catch (Exception e) {
             LOGGER.warn("Error cleaning up utilities", e);
         }
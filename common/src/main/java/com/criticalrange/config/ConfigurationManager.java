@@ -24,6 +24,8 @@ public class ConfigurationManager {
             .create();
 
     private static ConfigurationManager instance;
+    // Incremented on every save so caches derived from the config can detect changes cheaply
+    private static volatile int configVersion = 0;
     private final Path configDirectory;
     private VulkanModExtraConfig config;
 
@@ -39,6 +41,13 @@ public class ConfigurationManager {
         return instance;
     }
 
+    /**
+     * Get the current config version, incremented every time the config is saved
+     */
+    public static int getConfigVersion() {
+        return configVersion;
+    }
+
     /**
      * Load or create the configuration
      */
@@ -106,6 +115,9 @@ public class ConfigurationManager {
                 return;
             }
 
+            // Bump the version before writing - the in-memory config has changed even if the write fails
+            configVersion++;
+
             // Save to the single config file location
             Path configFile = configDirectory.getParent().resolve("vulkanmod-extra-options.json");
             String json = GSON.toJson(config);
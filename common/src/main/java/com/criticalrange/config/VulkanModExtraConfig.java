@@ -16,6 +16,7 @@ public class VulkanModExtraConfig {
     public final AnimationSettings animationSettings = new AnimationSettings();
     public final ParticleSettings particleSettings = new ParticleSettings();
     public final RenderSettings renderSettings = new RenderSettings();
+    public final BlockEntitySettings blockEntitySettings = new BlockEntitySettings();
     public final DetailSettings detailSettings = new DetailSettings();
     public final ExtraSettings extraSettings = new ExtraSettings();
     public final OptimizationSettings optimizationSettings = new OptimizationSettings();
@@ -264,19 +265,38 @@ public class VulkanModExtraConfig {
         public boolean wither = true;
         public boolean witherArmor = true;
         public final Map<String, Boolean> otherParticles = new HashMap<>();
+
+        // Random block display ticks: ambient particles and sounds from blocks, fluids and biomes around the player
+        public int displayTickRate = 100; // Range: 0-100, percent of vanilla's 667 samples per radius per tick
+        public int displayTickRadius = 32; // Range: 8-32 blocks, vanilla is 32; the inner radius is half of it
+        public boolean displayTickTorches = true; // Torches and candles
+        public boolean displayTickFire = true; // Fire, campfires and lit furnaces
+        public boolean displayTickLeaves = true;
+        public boolean displayTickSporeBlossoms = true;
+        public boolean displayTickDripstone = true;
+        public boolean displayTickPortals = true; // Nether and end portals, end gateways and ender chests
+        public boolean displayTickFluids = true; // Lava pops, water sounds and drips under fluids
+        public boolean displayTickBiomeAmbient = true; // Ash, spores and other biome particles
+        public boolean displayTickOther = true;
     }
 
     public static class RenderSettings {
-        public boolean lightUpdates = true;
+        public boolean lightUpdates = true; // Schedule client light updates within lightUpdateBudget
+        public int lightUpdateBudget = 2000; // Range: 250-8000 microseconds per frame
+        public boolean offThreadLighting = false; // Run client light propagation on a worker thread
         public boolean itemFrame = true;
         public boolean armorStand = true;
         public boolean painting = true;
         public boolean piston = true;
         public boolean beaconBeam = true;
         public int beaconBeamHeight = 256; // Range: 32-512, default: 256
+        public int beaconBeamDistance = 0; // Range: 0-256, 0 keeps the vanilla distance (256)
+        public int maxBeaconBeams = 0; // Range: 0-64, nearest beams are kept, 0 = unlimited
         public boolean itemFrameNameTag = true;
         public boolean armorStandNameTag = true;
         public boolean playerNameTag = true;
+        public int nameTagDistance = 0; // Range: 0-128, 0 keeps the vanilla distance
+        public boolean nameTagOcclusion = false; // Hide name tags of entities behind opaque blocks
         public boolean fog = true; // Master fog toggle (renamed from globalFog)
         // Dimension-specific fog toggles
         public boolean overworldFog = true;
@@ -286,6 +306,33 @@ public class VulkanModExtraConfig {
         public boolean waterFog = true;
         public boolean lavaFog = true;
         public boolean powderSnowFog = true;
+        // Per-entity-type render distance in blocks, 0 keeps the vanilla distance
+        public int itemFrameDistance = 0; // Range: 0-256, also applies to glow item frames
+        public int armorStandDistance = 0; // Range: 0-256
+        public int paintingDistance = 0; // Range: 0-256
+        // Additional entity types by id, e.g. "minecraft:minecart" -> 48; overrides the settings above
+        public final Map<String, Integer> entityRenderDistances = new HashMap<>();
+        // Item frames past this distance skip their held item (maps keep their flat quad), 0 disables
+        public int itemFrameLodDistance = 0; // Range: 0-128
+        // Map texture updates: minimum ticks between uploads of one map, and uploads across all maps per tick (0 = unlimited)
+        public int mapUpdateInterval = 1; // Range: 1-40
+        public int maxMapUploadsPerTick = 0; // Range: 0-32
+        // Paintings, item frames and armor stands unchanged for this many ticks are redrawn from recorded vertices
+        public boolean staticDecorationBaking = false;
+        public int staticDecorationTicks = 40; // Range: 10-200
+        // Entity render LOD bands in blocks, 0 disables a band; all bands halve while the crowd threshold is exceeded
+        public boolean entityRenderLod = false;
+        public int entityLodShadowDistance = 32; // Range: 0-128, no shadow past this distance
+        public int entityLodFeatureDistance = 48; // Range: 0-128, no armor, held items or other layers
+        public int entityLodCrowdThreshold = 150; // Range: 0-500, entities drawn last frame, 0 disables crowd mode
+        // Dropped items and XP orbs: single model and one-block clustering past this distance, 0 disables
+        public int itemLodDistance = 0; // Range: 0-64
+        public int maxItemsPerSection = 0; // Range: 0-256, items and orbs drawn per chunk section, 0 = unlimited
+        // Enchantment glint passes and entity shadows: distance in blocks and per-frame cap, 0 = unlimited (1.21 to 1.21.8)
+        public int glintDistance = 0; // Range: 0-64
+        public int maxGlintsPerFrame = 0; // Range: 0-512
+        public int shadowDistance = 0; // Range: 0-16, vanilla fades shadows out at 16 blocks
+        public int maxShadowsPerFrame = 0; // Range: 0-512
 
         public RenderSettings() {
             // No complex fog config initialization needed anymore
@@ -294,6 +341,43 @@ public class VulkanModExtraConfig {
 
 
 
+    public static class BlockEntitySettings {
+        // Master toggle for per-type block entity render distances
+        public boolean distanceCulling = false;
+
+        // Render distance in blocks per block entity category, 0 keeps the vanilla distance (64 for most)
+        public int chest = 48; // Chests, trapped chests, ender chests
+        public int shulkerBox = 48;
+        public int sign = 32; // Signs and hanging signs
+        public int banner = 48;
+        public int skull = 32;
+        public int bed = 48;
+        public int bell = 32;
+        public int campfire = 32;
+        public int lectern = 32; // Lectern and enchanting table books
+        public int decoratedPot = 32; // Decorated pots and brushable blocks
+        public int spawner = 48; // Mob spawners, trial spawners, vaults
+        public int conduit = 0;
+        public int beacon = 0;
+        public int endPortal = 0; // End portals and end gateways
+
+        // Closed chests and shulker boxes are drawn as block models in the chunk mesh (1.21/1.21.1)
+        public boolean staticContainers = false;
+
+        // Banners drawn from pre-composited pattern textures (1.21/1.21.1), sign text replayed from cached glyph meshes
+        public boolean bannerTextureCache = false;
+        public boolean signTextCache = false;
+
+        // Client block entity tickers past these distances run every 2nd/4th tick; particle emitters stop entirely. 0 disables
+        public boolean tickThrottling = false;
+        public int halfRateTickDistance = 24; // Range: 0-128
+        public int quarterRateTickDistance = 48; // Range: 0-128
+        public int particleTickDistance = 32; // Range: 0-128, campfires, conduits, spawners, trial spawners, vaults
+
+        // Additional block entity types by id, e.g. "minecraft:chest" -> 24; overrides the categories above
+        public final Map<String, Integer> otherBlockEntities = new HashMap<>();
+    }
+
     public static class DetailSettings {
         public boolean skyGradient = true; // Sky background gradient
         public boolean sun = true;
@@ -301,8 +385,13 @@ public class VulkanModExtraConfig {
         public boolean stars = true;
         public boolean rainSnow = true;
         public boolean biomeColors = true;
-        public int cloudHeight = 192;
-        public int cloudDistance = 100;
+        public boolean biomeColorCache = true; // Blend biome colors per chunk layer and keep them across reloads
+        public int biomeBlendRadius = 7; // Range: 0-7, caps the vanilla biome blend option
+        public int cloudHeight = 192; // Range: 50-500, vanilla overworld cloud height is 192
+        public int cloudDistance = 100; // Range: 50-300, percent of the vanilla cloud radius (1.21/1.21.1)
+        public int weatherRadius = 10; // Range: 2-15, blocks at Fancy graphics (Fast uses half), vanilla is 10
+        public int weatherDensity = 100; // Range: 10-100, percent of weather columns drawn
+        public int rainSplashRate = 100; // Range: 0-200, percent of vanilla rain splash particles and sounds
     }
 
     public static class ExtraSettings {
@@ -333,7 +422,23 @@ public class VulkanModExtraConfig {
     }
 
     public static class OptimizationSettings {
-        // Reserved for future optimization features
+        // Texture budget - downsamples oversized sprites while the atlas is stitched
+        public boolean textureBudget = false;
+        public int maxTextureResolution = 256; // Range: 16-1024, rounded down to a power of two
+        public int maxAnimatedTextureResolution = 64; // Range: 16-1024, rounded down to a power of two
+        public int maxMipmapLevels = 4; // Range: 0-4
+
+        // Skip the sky pass while the sky cannot be seen (underground, underwater, blindness)
+        public boolean autoSkySkip = false;
+
+        // Hide entities and block entities behind opaque blocks, tested by a background thread
+        public boolean occlusionCulling = false;
+
+        // Client entity tick LOD - distant entities tick every 2nd/4th/8th tick, 0 disables a band
+        public boolean entityTickLod = false;
+        public int entityTickHalfRateDistance = 48; // Range: 0-256
+        public int entityTickQuarterRateDistance = 96; // Range: 0-256
+        public int entityTickEighthRateDistance = 160; // Range: 0-256
     }
 
     // ===== ENUMS =====
@@ -0,0 +1,84 @@
+package com.criticalrange.features.optimization;
+
+import com.criticalrange.core.BaseFeature;
+import com.criticalrange.core.FeatureCategory;
+import com.criticalrange.core.error.ErrorSeverity;
+import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.optimization.cloud.CloudStage;
+import com.criticalrange.optimization.container.StaticContainers;
+import com.criticalrange.optimization.entity.BeaconBeamLimiter;
+import com.criticalrange.optimization.entity.BlockEntityRenderDistance;
+import com.criticalrange.optimization.entity.BlockEntityTickThrottle;
+import com.criticalrange.optimization.entity.DecorationBaker;
+import com.criticalrange.optimization.entity.EntityRenderDistance;
+import com.criticalrange.optimization.entity.EntityRenderLod;
+import com.criticalrange.optimization.entity.EntityTickLod;
+import com.criticalrange.optimization.entity.ExtractionBenchmark;
+import com.criticalrange.optimization.entity.GlintShadowLimiter;
+import com.criticalrange.optimization.entity.ItemEntityLod;
+import com.criticalrange.optimization.entity.ItemFrameLod;
+import com.criticalrange.optimization.entity.SignTextCache;
+import com.criticalrange.optimization.fog.FogDecisionCache;
+import com.criticalrange.optimization.light.LightUpdateScheduler;
+import com.criticalrange.optimization.light.OffThreadLightEngine;
+import com.criticalrange.optimization.map.MapTextureThrottle;
+import com.criticalrange.optimization.nametag.LabelLayoutCache;
+import com.criticalrange.optimization.nametag.NameTagDecision;
+import com.criticalrange.optimization.occlusion.OcclusionCuller;
+import com.criticalrange.optimization.sky.SkyVisibility;
+import com.criticalrange.optimization.texture.BannerTextureCache;
+import com.criticalrange.optimization.texture.TextureBudget;
+import com.criticalrange.optimization.weather.WeatherStage;
+
+/**
+ * Optimization feature - reports the state of the performance subsystems
+ * The subsystems themselves are driven by mixins and read their settings directly from the config
+ */
+public class OptimizationFeature extends BaseFeature {
+
+    public OptimizationFeature() {
+        super("optimization", "Optimization", FeatureCategory.PERFORMANCE,
+              "Texture budget, sky skipping and other rendering optimizations");
+    }
+
+    @Override
+    public boolean isEnabled() {
+        VulkanModExtraConfig config = getConfig();
+        return config != null && enabled;
+    }
+
+    @Override
+    public String getDiagnosticInfo() {
+        return handleError("diagnostic_info", () -> {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("Optimization Feature v%s by %s\n", version, author));
+            sb.append(String.format("Status: %s\n", enabled ? "Enabled" : "Disabled"));
+            sb.append(TextureBudget.getDiagnosticInfo());
+            sb.append(SkyVisibility.getDiagnosticInfo());
+            sb.append(FogDecisionCache.getDiagnosticInfo());
+            sb.append(CloudStage.getDiagnosticInfo());
+            sb.append(WeatherStage.getDiagnosticInfo());
+            sb.append(EntityRenderDistance.getDiagnosticInfo());
+            sb.append(BlockEntityRenderDistance.getDiagnosticInfo());
+            sb.append(StaticContainers.getDiagnosticInfo());
+            sb.append(BeaconBeamLimiter.getDiagnosticInfo());
+            sb.append(ExtractionBenchmark.getDiagnosticInfo());
+            sb.append(OcclusionCuller.getDiagnosticInfo());
+            sb.append(ItemFrameLod.getDiagnosticInfo());
+            sb.append(DecorationBaker.getDiagnosticInfo());
+            sb.append(MapTextureThrottle.getDiagnosticInfo());
+            sb.append(NameTagDecision.getDiagnosticInfo());
+            sb.append(LabelLayoutCache.getDiagnosticInfo());
+            sb.append(EntityTickLod.getDiagnosticInfo());
+            sb.append(EntityRenderLod.getDiagnosticInfo());
+            sb.append(ItemEntityLod.getDiagnosticInfo());
+            sb.append(BlockEntityTickThrottle.getDiagnosticInfo());
+            sb.append(BannerTextureCache.getDiagnosticInfo());
+            sb.append(SignTextCache.getDiagnosticInfo());
+            sb.append(GlintShadowLimiter.getDiagnosticInfo());
+            sb.append(LightUpdateScheduler.getDiagnosticInfo());
+            sb.append(OffThreadLightEngine.getDiagnosticInfo());
+            return sb.toString();
+        }, "Optimization Feature - Diagnostic info unavailable", ErrorSeverity.INFO);
+    }
+}
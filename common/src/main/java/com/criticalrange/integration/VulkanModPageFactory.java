@@ -2,6 +2,7 @@ package com.criticalrange.integration;
 
 import com.criticalrange.VulkanModExtra;
 import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.optimization.entity.GlintShadowLimiter;
 import net.minecraft.text.Text;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,6 +29,7 @@ public class VulkanModPageFactory {
         PARTICLE("particle", "particleSettings"),
         DETAIL("details", "detailSettings"),
         RENDER("render", "renderSettings"),
+        BLOCK_ENTITY("blockEntity", "blockEntitySettings"),
         EXTRA("extra", "extraSettings"),
         OPTIMIZATION("optimization", "optimizationSettings");
 
@@ -49,6 +51,7 @@ public class VulkanModPageFactory {
             case PARTICLE: return VulkanModExtra.CONFIG.particleSettings;
             case DETAIL: return VulkanModExtra.CONFIG.detailSettings;
             case RENDER: return VulkanModExtra.CONFIG.renderSettings;
+            case BLOCK_ENTITY: return VulkanModExtra.CONFIG.blockEntitySettings;
             case EXTRA: return VulkanModExtra.CONFIG.extraSettings;
             case OPTIMIZATION: return VulkanModExtra.CONFIG.optimizationSettings;
             default: throw new IllegalArgumentException("Unknown page type: " + pageType);
@@ -190,6 +193,23 @@ public class VulkanModPageFactory {
                     case 2: translationKey = "vulkanmod-extra.block.render.blockRendering"; break;
                     case 3: translationKey = "vulkanmod-extra.block.render.lightEffects"; break;
                     case 4: translationKey = "vulkanmod-extra.block.render.fogControls"; break;
+                    case 5: translationKey = "vulkanmod-extra.block.render.itemFramesMaps"; break;
+                    case 6: translationKey = "vulkanmod-extra.block.render.entityLod"; break;
+                    case 7:
+                        // Skipped counts of the last frame, taken when the page is opened
+                        return Text.translatable("vulkanmod-extra.block.render.glintShadows",
+                            GlintShadowLimiter.getSkippedGlintsLastFrame(),
+                            GlintShadowLimiter.getSkippedShadowsLastFrame()).getString();
+                    default: return Text.translatable("vulkanmod-extra.block.additionalControls", groupIndex + 1).getString();
+                }
+                break;
+            case BLOCK_ENTITY:
+                switch (groupIndex) {
+                    case 0: translationKey = "vulkanmod-extra.block.blockEntity.storage"; break;
+                    case 1: translationKey = "vulkanmod-extra.block.blockEntity.decoration"; break;
+                    case 2: translationKey = "vulkanmod-extra.block.blockEntity.functional"; break;
+                    case 3: translationKey = "vulkanmod-extra.block.blockEntity.special"; break;
+                    case 4: translationKey = "vulkanmod-extra.block.blockEntity.ticking"; break;
                     default: return Text.translatable("vulkanmod-extra.block.additionalControls", groupIndex + 1).getString();
                 }
                 break;
@@ -222,6 +242,7 @@ public class VulkanModPageFactory {
                     case 9: translationKey = "vulkanmod-extra.block.particle.natureEffects"; break;
                     case 10: translationKey = "vulkanmod-extra.block.particle.sculkEffects"; break;
                     case 11: translationKey = "vulkanmod-extra.block.particle.otherEffects"; break;
+                    case 12: translationKey = "vulkanmod-extra.block.particle.blockDisplayTicks"; break;
                     default: return Text.translatable("vulkanmod-extra.block.additionalControls", groupIndex + 1).getString();
                 }
                 break;
@@ -229,6 +250,8 @@ public class VulkanModPageFactory {
                 switch (groupIndex) {
                     case 0: translationKey = "vulkanmod-extra.block.details.skyElements"; break;
                     case 1: translationKey = "vulkanmod-extra.block.details.colorEffects"; break;
+                    case 2: translationKey = "vulkanmod-extra.block.details.clouds"; break;
+                    case 3: translationKey = "vulkanmod-extra.block.details.weather"; break;
                     default: return Text.translatable("vulkanmod-extra.block.additionalControls", groupIndex + 1).getString();
                 }
                 break;
@@ -240,6 +263,15 @@ public class VulkanModPageFactory {
                     default: return Text.translatable("vulkanmod-extra.block.additionalControls", groupIndex + 1).getString();
                 }
                 break;
+            case OPTIMIZATION:
+                switch (groupIndex) {
+                    case 0: translationKey = "vulkanmod-extra.block.optimization.textureBudget"; break;
+                    case 1: translationKey = "vulkanmod-extra.block.optimization.skyEnvironment"; break;
+                    case 2: translationKey = "vulkanmod-extra.block.optimization.occlusion"; break;
+                    case 3: translationKey = "vulkanmod-extra.block.optimization.entityTicking"; break;
+                    default: return Text.translatable("vulkanmod-extra.block.additionalControls", groupIndex + 1).getString();
+                }
+                break;
             default:
                 return Text.translatable("vulkanmod-extra.block.additionalControls", groupIndex + 1).getString();
         }
@@ -302,32 +334,59 @@ public class VulkanModPageFactory {
                     // Sculk particles
                     {"sculkCharge", "sculkChargePop", "sculkSoul", "shriek", "vibration"},
                     // Other particles
-                    {"dolphin", "dragonBreath", "eggCrack", "elderGuardian", "electricSpark", "enchant", "endRod", "fishing", "glow", "glowSquidInk", "gust", "gustEmitterLarge", "gustEmitterSmall", "infested", "item", "itemCobweb", "itemSlime", "itemSnowball", "largeSmoke", "lightBlock", "mycelium", "nautilus", "note", "ominousSpawning", "poof", "portal", "rain", "reversePortal", "scrape", "smallGust", "sneeze", "snowflake", "sonicBoom", "soul", "spit", "splash", "squidInk", "totemOfUndying", "trail", "trialOmen", "trialSpawnerDetection", "trialSpawnerDetectionOminous", "underwater", "vaultConnection", "waxOff", "waxOn", "witch", "wither", "witherArmor"}
+                    {"dolphin", "dragonBreath", "eggCrack", "elderGuardian", "electricSpark", "enchant", "endRod", "fishing", "glow", "glowSquidInk", "gust", "gustEmitterLarge", "gustEmitterSmall", "infested", "item", "itemCobweb", "itemSlime", "itemSnowball", "largeSmoke", "lightBlock", "mycelium", "nautilus", "note", "ominousSpawning", "poof", "portal", "rain", "reversePortal", "scrape", "smallGust", "sneeze", "snowflake", "sonicBoom", "soul", "spit", "splash", "squidInk", "totemOfUndying", "trail", "trialOmen", "trialSpawnerDetection", "trialSpawnerDetectionOminous", "underwater", "vaultConnection", "waxOff", "waxOn", "witch", "wither", "witherArmor"},
+                    // Random block display ticks
+                    {"displayTickRate", "displayTickRadius", "displayTickTorches", "displayTickFire", "displayTickLeaves", "displayTickSporeBlossoms", "displayTickDripstone", "displayTickPortals", "displayTickFluids", "displayTickBiomeAmbient", "displayTickOther"}
                 };
                 return new PageConfig(PageType.PARTICLE, "Particles", "allParticles", particleGroups);
 
             case DETAIL:
                 String[][] detailGroups = {
                     {"skyGradient", "sun", "moon", "stars", "rainSnow"},
-                    {"biomeColors"}
+                    {"biomeColors", "biomeColorCache", "biomeBlendRadius"},
+                    {"cloudHeight", "cloudDistance"},
+                    {"weatherRadius", "weatherDensity", "rainSplashRate"}
                 };
                 return new PageConfig(PageType.DETAIL, "Details", "sky", detailGroups);
 
             case RENDER:
                 String[][] renderGroups = {
                     // Entity Rendering
-                    {"itemFrame", "armorStand", "painting"},
+                    {"itemFrame", "armorStand", "painting", "itemFrameDistance", "armorStandDistance", "paintingDistance",
+                     "staticDecorationBaking", "staticDecorationTicks"},
                     // Name Tags
-                    {"itemFrameNameTag", "playerNameTag"},
+                    {"itemFrameNameTag", "armorStandNameTag", "playerNameTag", "nameTagDistance", "nameTagOcclusion"},
                     // Block Rendering
                     {"piston"},
                     // Light & Effects
-                    {"lightUpdates", "beaconBeam", "beaconBeamHeight"},
+                    {"lightUpdates", "lightUpdateBudget", "offThreadLighting", "beaconBeam", "beaconBeamHeight", "beaconBeamDistance", "maxBeaconBeams"},
                     // Fog Controls
-                    {"fog", "overworldFog", "netherFog", "endFog", "waterFog", "lavaFog", "powderSnowFog"}
+                    {"fog", "overworldFog", "netherFog", "endFog", "waterFog", "lavaFog", "powderSnowFog"},
+                    // Item Frames & Maps
+                    {"itemFrameLodDistance", "mapUpdateInterval", "maxMapUploadsPerTick"},
+                    // Entity LOD
+                    {"entityRenderLod", "entityLodShadowDistance", "entityLodFeatureDistance",
+                     "entityLodCrowdThreshold", "itemLodDistance", "maxItemsPerSection"},
+                    // Glint & Shadows
+                    {"glintDistance", "maxGlintsPerFrame", "shadowDistance", "maxShadowsPerFrame"}
                 };
                 return new PageConfig(PageType.RENDER, "Render", null, renderGroups);
 
+            case BLOCK_ENTITY:
+                String[][] blockEntityGroups = {
+                    // Storage
+                    {"chest", "shulkerBox", "staticContainers"},
+                    // Decoration
+                    {"sign", "banner", "skull", "decoratedPot", "bannerTextureCache", "signTextCache"},
+                    // Functional blocks
+                    {"bed", "bell", "campfire", "lectern", "spawner"},
+                    // Long range effects
+                    {"conduit", "beacon", "endPortal"},
+                    // Client ticking
+                    {"tickThrottling", "halfRateTickDistance", "quarterRateTickDistance", "particleTickDistance"}
+                };
+                return new PageConfig(PageType.BLOCK_ENTITY, "Block Entities", "distanceCulling", blockEntityGroups);
+
             case EXTRA:
                 String[][] extraGroups = {
                     {"showFps", "fpsDisplayMode", "overlayCorner", "textContrast"},
@@ -338,7 +397,14 @@ public class VulkanModPageFactory {
 
             case OPTIMIZATION:
                 String[][] optimizationGroups = {
-                    // Reserved for future optimization features
+                    // Texture budget
+                    {"textureBudget", "maxTextureResolution", "maxAnimatedTextureResolution", "maxMipmapLevels"},
+                    // Sky and environment
+                    {"autoSkySkip"},
+                    // Occlusion culling
+                    {"occlusionCulling"},
+                    // Entity ticking
+                    {"entityTickLod", "entityTickHalfRateDistance", "entityTickQuarterRateDistance", "entityTickEighthRateDistance"}
                 };
                 return new PageConfig(PageType.OPTIMIZATION, "Optimization", null, optimizationGroups);
 
@@ -419,7 +485,17 @@ public class VulkanModPageFactory {
      * Check if a field change requires resource reload
      */
     private static boolean needsResourceReload(Object target, String fieldName) {
-        // Only animation settings require resource reload (particles don't need it)
+        // Static container models change block render types, so every chunk mesh has to be rebuilt
+        if (target instanceof com.criticalrange.config.VulkanModExtraConfig.BlockEntitySettings) {
+            return "staticContainers".equals(fieldName);
+        }
+        // Animation settings and the texture budget are applied while atlases are stitched
+        if (target instanceof com.criticalrange.config.VulkanModExtraConfig.OptimizationSettings) {
+            return switch (fieldName) {
+                case "textureBudget", "maxTextureResolution", "maxAnimatedTextureResolution", "maxMipmapLevels" -> true;
+                default -> false;
+            };
+        }
         return target instanceof com.criticalrange.config.VulkanModExtraConfig.AnimationSettings;
     }
 
@@ -469,6 +545,10 @@ public class VulkanModPageFactory {
             field.setInt(target, value);
             // Save config immediately when field is changed
             saveConfig();
+
+            if (needsResourceReload(target, fieldName)) {
+                triggerResourceReload(fieldName);
+            }
         } catch (Exception e) {
             LOGGER.warn("Failed to set integer field: " + fieldName, e);
         }
@@ -487,15 +567,118 @@ public class VulkanModPageFactory {
             case "cloudDistance":
                 min = 50; max = 300; step = 10;
                 break;
+            case "itemFrameDistance":
+            case "armorStandDistance":
+            case "paintingDistance":
+                min = 0; max = 256; step = 8;
+                break;
+            case "nameTagDistance":
+                min = 0; max = 128; step = 8;
+                break;
+            case "itemFrameLodDistance":
+                min = 0; max = 128; step = 8;
+                break;
+            case "mapUpdateInterval":
+                min = 1; max = 40; step = 1;
+                break;
+            case "entityLodShadowDistance":
+            case "entityLodFeatureDistance":
+                min = 0; max = 128; step = 8;
+                break;
+            case "glintDistance":
+                min = 0; max = 64; step = 4;
+                break;
+            case "shadowDistance":
+                min = 0; max = 16; step = 1;
+                break;
+            case "maxGlintsPerFrame":
+            case "maxShadowsPerFrame":
+                min = 0; max = 512; step = 16;
+                break;
+            case "itemLodDistance":
+                min = 0; max = 64; step = 4;
+                break;
+            case "maxItemsPerSection":
+                min = 0; max = 256; step = 8;
+                break;
+            case "entityLodCrowdThreshold":
+                min = 0; max = 500; step = 25;
+                break;
+            case "halfRateTickDistance":
+            case "quarterRateTickDistance":
+            case "particleTickDistance":
+                min = 0; max = 128; step = 8;
+                break;
+            case "staticDecorationTicks":
+                min = 10; max = 200; step = 10;
+                break;
+            case "maxMapUploadsPerTick":
+                min = 0; max = 32; step = 1;
+                break;
+            case "chest":
+            case "shulkerBox":
+            case "sign":
+            case "banner":
+            case "skull":
+            case "decoratedPot":
+            case "bed":
+            case "bell":
+            case "campfire":
+            case "lectern":
+            case "spawner":
+            case "conduit":
+            case "beacon":
+            case "endPortal":
+                min = 0; max = 256; step = 8;
+                break;
+            case "displayTickRate":
+                min = 0; max = 100; step = 5;
+                break;
+            case "displayTickRadius":
+                min = 8; max = 32; step = 4;
+                break;
+            case "biomeBlendRadius":
+                min = 0; max = 7; step = 1;
+                break;
+            case "weatherRadius":
+                min = 2; max = 15; step = 1;
+                break;
+            case "weatherDensity":
+                min = 10; max = 100; step = 10;
+                break;
+            case "rainSplashRate":
+                min = 0; max = 200; step = 10;
+                break;
             case "steadyDebugHudRefreshInterval":
                 min = 1; max = 10; step = 1;
                 break;
             case "fullscreenMonitor":
                 min = 0; max = 5; step = 1;
                 break;
+            case "lightUpdateBudget":
+                min = 250; max = 8000; step = 250;
+                break;
             case "beaconBeamHeight":
                 min = 32; max = 512; step = 16;
                 break;
+            case "beaconBeamDistance":
+                min = 0; max = 256; step = 16;
+                break;
+            case "maxBeaconBeams":
+                min = 0; max = 64; step = 1;
+                break;
+            case "maxTextureResolution":
+            case "maxAnimatedTextureResolution":
+                min = 16; max = 1024; step = 16;
+                break;
+            case "maxMipmapLevels":
+                min = 0; max = 4; step = 1;
+                break;
+            case "entityTickHalfRateDistance":
+            case "entityTickQuarterRateDistance":
+            case "entityTickEighthRateDistance":
+                min = 0; max = 256; step = 8;
+                break;
             default:
                 // Generic integer range
                 min = 0; max = 100; step = 1;
@@ -548,9 +731,9 @@ public class VulkanModPageFactory {
                 pages.add(createVulkanModPage(PageType.PARTICLE));
                 pages.add(createVulkanModPage(PageType.DETAIL));
                 pages.add(createVulkanModPage(PageType.RENDER));
+                pages.add(createVulkanModPage(PageType.BLOCK_ENTITY));
                 pages.add(createVulkanModPage(PageType.EXTRA));
-
-                // Optimization page removed - no optimization features currently available
+                pages.add(createVulkanModPage(PageType.OPTIMIZATION));
 
                 LOGGER.debug("Created {} VulkanMod Extra option pages with settings", pages.size());
             }
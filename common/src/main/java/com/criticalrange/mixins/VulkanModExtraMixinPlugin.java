@@ -1,9 +1,14 @@
 package com.criticalrange.mixins;
 
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.AnnotationNode;
 import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
 import org.spongepowered.asm.mixin.extensibility.IMixinConfigPlugin;
 import org.spongepowered.asm.mixin.extensibility.IMixinInfo;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -13,6 +18,7 @@ import java.util.Set;
  * Simplified to avoid initialization issues
  */
 public class VulkanModExtraMixinPlugin implements IMixinConfigPlugin {
+    private static final String MIXIN_MERGED = "Lorg/spongepowered/asm/mixin/transformer/meta/MixinMerged;";
 
     @Override
     public void onLoad(String mixinPackage) {
@@ -65,7 +71,106 @@ public class VulkanModExtraMixinPlugin implements IMixinConfigPlugin {
 
     @Override
     public void postApply(String targetClassName, ClassNode targetClass, String mixinClassName, IMixinInfo mixinInfo) {
-        // Post-apply transformations
+        // Report how many injection points each mixin actually hooked, so hot-path overhead can be verified
+        try {
+            Set<String> handlers = getInjectorHandlerNames(mixinInfo.getClassNode(0));
+            if (handlers.isEmpty()) {
+                return;
+            }
+
+            Set<String> merged = getMergedHandlers(targetClass, mixinInfo.getClassName(), handlers);
+            int injectionPoints = countInjectionPoints(targetClass, merged);
+            System.out.println("[VulkanMod-Extra] " + mixinInfo.getName() + " -> " + targetClassName +
+                ": " + injectionPoints + " injection point(s) from " + handlers.size() + " handler(s)");
+        } catch (Exception e) {
+            // Reporting must never break mixin application
+        }
+    }
+
+    /**
+     * Collect the names of all injector handler methods declared by a mixin
+     */
+    private Set<String> getInjectorHandlerNames(ClassNode mixinClass) {
+        Set<String> handlers = new HashSet<>();
+        if (mixinClass == null) {
+            return handlers;
+        }
+
+        for (MethodNode method : mixinClass.methods) {
+            if (hasInjectorAnnotation(method.visibleAnnotations) || hasInjectorAnnotation(method.invisibleAnnotations)) {
+                handlers.add(method.name);
+            }
+        }
+        return handlers;
+    }
+
+    private boolean hasInjectorAnnotation(List<AnnotationNode> annotations) {
+        if (annotations == null) {
+            return false;
+        }
+
+        for (AnnotationNode annotation : annotations) {
+            if (annotation.desc.startsWith("Lorg/spongepowered/asm/mixin/injection/")
+                || annotation.desc.startsWith("Lcom/llamalad7/mixinextras/injector/")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collect the full names and descriptors of the handlers this mixin merged into the target class.
+     * Mixin renames merged handlers to "prefix$id$originalName" and tags them with @MixinMerged naming
+     * the mixin, so two mixins sharing a handler name on one target are told apart by that tag.
+     */
+    private Set<String> getMergedHandlers(ClassNode targetClass, String mixinClassName, Set<String> handlers) {
+        Set<String> merged = new HashSet<>();
+        for (MethodNode method : targetClass.methods) {
+            if (!mixinClassName.equals(getMergingMixin(method.visibleAnnotations))
+                && !mixinClassName.equals(getMergingMixin(method.invisibleAnnotations))) {
+                continue;
+            }
+            for (String handler : handlers) {
+                if (method.name.equals(handler) || method.name.endsWith("$" + handler)) {
+                    merged.add(method.name + method.desc);
+                    break;
+                }
+            }
+        }
+        return merged;
+    }
+
+    private String getMergingMixin(List<AnnotationNode> annotations) {
+        if (annotations == null) {
+            return null;
+        }
+
+        for (AnnotationNode annotation : annotations) {
+            if (MIXIN_MERGED.equals(annotation.desc) && annotation.values != null) {
+                for (int i = 0; i + 1 < annotation.values.size(); i += 2) {
+                    if ("mixin".equals(annotation.values.get(i))) {
+                        return String.valueOf(annotation.values.get(i + 1));
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Count call sites of the given merged handler methods in the target class
+     */
+    private int countInjectionPoints(ClassNode targetClass, Set<String> merged) {
+        int count = 0;
+        for (MethodNode method : targetClass.methods) {
+            for (AbstractInsnNode insn = method.instructions.getFirst(); insn != null; insn = insn.getNext()) {
+                if (insn instanceof MethodInsnNode call && call.owner.equals(targetClass.name)
+                    && merged.contains(call.name + call.desc)) {
+                    count++;
+                }
+            }
+        }
+        return count;
     }
 
     /**
@@ -0,0 +1,47 @@
+package com.criticalrange.mixins.animations;
+
+import com.criticalrange.optimization.texture.TextureBudget;
+import net.minecraft.client.texture.SpriteContents;
+import net.minecraft.client.texture.SpriteLoader;
+import net.minecraft.util.Identifier;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.ModifyVariable;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Texture budget mixin
+ * Downsamples oversized sprites and trims the mip chain before an atlas is stitched
+ */
+@Mixin(SpriteLoader.class)
+public abstract class MixinSpriteLoader {
+
+    @Shadow
+    @Final
+    private Identifier id;
+
+    @ModifyVariable(method = "stitch", at = @At("HEAD"), argsOnly = true, require = 0)
+    private List<SpriteContents> vulkanmodExtra$applyTextureBudget(List<SpriteContents> sprites) {
+        return TextureBudget.apply(this.id, sprites);
+    }
+
+    @ModifyVariable(method = "stitch", at = @At("HEAD"), argsOnly = true, ordinal = 0, require = 0)
+    private int vulkanmodExtra$clampMipLevel(int mipLevel) {
+        return TextureBudget.clampMipLevel(mipLevel);
+    }
+
+    @Inject(method = "stitch", at = @At("RETURN"), require = 0)
+    private void vulkanmodExtra$recordStitch(List<SpriteContents> sprites, int mipLevel, Executor executor,
+                                             CallbackInfoReturnable<SpriteLoader.StitchResult> cir) {
+        SpriteLoader.StitchResult result = cir.getReturnValue();
+        if (result != null) {
+            TextureBudget.recordStitch(this.id, result.width(), result.height(), result.mipLevel());
+        }
+    }
+}
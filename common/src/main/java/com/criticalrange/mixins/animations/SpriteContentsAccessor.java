@@ -0,0 +1,20 @@
+package com.criticalrange.mixins.animations;
+
+import net.minecraft.client.texture.NativeImage;
+import net.minecraft.client.texture.SpriteContents;
+import net.minecraft.resource.metadata.ResourceMetadata;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Exposes the raw sprite image and metadata so the texture budget can rebuild sprite contents
+ */
+@Mixin(SpriteContents.class)
+public interface SpriteContentsAccessor {
+
+    @Accessor("image")
+    NativeImage vulkanmodExtra$getImage();
+
+    @Accessor("metadata")
+    ResourceMetadata vulkanmodExtra$getMetadata();
+}
@@ -0,0 +1,21 @@
+package com.criticalrange.mixins.details;
+
+import com.criticalrange.optimization.biome.BiomeColorBlender;
+import net.minecraft.client.world.BiomeColorCache;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.Constant;
+import org.spongepowered.asm.mixin.injection.ModifyConstant;
+
+/**
+ * Biome color cache size
+ * Vanilla keeps the colors of 256 chunks, fewer than a render distance of 8 shows, so colors are
+ * blended again on every rebuild of the chunks beyond that.
+ */
+@Mixin(BiomeColorCache.class)
+public class MixinBiomeColorCache {
+
+    @ModifyConstant(method = "getColorArray", constant = @Constant(intValue = 256), require = 0)
+    private int vulkanmodExtra$cachedChunks(int vanillaChunks) {
+        return BiomeColorBlender.getCachedChunks(vanillaChunks);
+    }
+}
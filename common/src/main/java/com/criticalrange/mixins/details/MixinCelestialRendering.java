@@ -9,26 +9,24 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 /**
  * Celestial bodies rendering control mixin
- * Controls sun, moon, and stars rendering using wildcard patterns
- * Platform-specific versions will override this with correct method names
+ * Skips the whole sky pass when every sky element is disabled
+ * Individual elements are controlled by MixinWorldRendererCelestial (1.21/1.21.1) and MixinSkyRendering (1.21.2+)
  */
 @Mixin(WorldRenderer.class)
 public class MixinCelestialRendering {
 
     /**
-     * Control celestial bodies rendering using wildcard patterns
-     * This method will be overridden by platform-specific mixins
+     * Skip renderSky entirely when there is nothing left to draw
+     * Only the method name is targeted so the same hook works across supported versions
      */
-    @Inject(method = "*", at = @At("HEAD"), require = 0)
+    @Inject(method = "renderSky", at = @At("HEAD"), cancellable = true, require = 0)
     private void vulkanmodExtra$controlCelestialBodies(CallbackInfo ci) {
         if (VulkanModExtra.CONFIG != null && VulkanModExtra.CONFIG.detailSettings != null) {
             var settings = VulkanModExtra.CONFIG.detailSettings;
 
-            // Cancel celestial bodies when all are disabled for performance
-            // Platform-specific versions will provide more precise control
-            if (!settings.sun && !settings.moon && !settings.stars) {
+            if (!settings.sun && !settings.moon && !settings.stars && !settings.skyGradient) {
                 ci.cancel();
             }
         }
     }
-}
\ No newline at end of file
+}
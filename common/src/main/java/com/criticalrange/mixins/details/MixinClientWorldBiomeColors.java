@@ -0,0 +1,57 @@
+package com.criticalrange.mixins.details;
+
+import com.criticalrange.optimization.biome.BiomeColorBlender;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.biome.ColorResolver;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Biome color blending
+ * Blends colors a chunk layer at a time with the configured radius, and keeps the color cache
+ * across renderer reloads unless something the colors depend on changed.
+ */
+@Mixin(ClientWorld.class)
+public class MixinClientWorldBiomeColors {
+
+    @Unique
+    private long vulkanmodExtra$colorStamp = BiomeColorBlender.NO_STAMP;
+
+    @WrapMethod(method = "calculateColor", require = 0)
+    private int vulkanmodExtra$blendColor(BlockPos pos, ColorResolver colorResolver, Operation<Integer> original) {
+        int radius = BiomeColorBlender.getRadius();
+        if (radius < 0) {
+            return original.call(pos, colorResolver);
+        }
+        return BiomeColorBlender.getColor((ClientWorld) (Object) this, pos, colorResolver, radius);
+    }
+
+    /**
+     * Called on every renderer reload, including graphics option changes
+     */
+    @WrapMethod(method = "reloadColor", require = 0)
+    private void vulkanmodExtra$reloadColor(Operation<Void> original) {
+        long stamp = BiomeColorBlender.getColorStamp();
+        if (stamp != BiomeColorBlender.NO_STAMP && stamp == this.vulkanmodExtra$colorStamp) {
+            return;
+        }
+        this.vulkanmodExtra$colorStamp = stamp;
+        BiomeColorBlender.invalidate();
+        original.call();
+    }
+
+    /**
+     * Called when a chunk or its biomes arrive from the server
+     */
+    @Inject(method = "resetChunkColor", at = @At("HEAD"), require = 0)
+    private void vulkanmodExtra$resetChunkColor(ChunkPos chunkPos, CallbackInfo ci) {
+        BiomeColorBlender.invalidate(chunkPos);
+    }
+}
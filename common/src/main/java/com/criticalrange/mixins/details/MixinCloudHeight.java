@@ -0,0 +1,22 @@
+package com.criticalrange.mixins.details;
+
+import com.criticalrange.optimization.cloud.CloudStage;
+import com.llamalad7.mixinextras.injector.ModifyExpressionValue;
+import net.minecraft.client.render.WorldRenderer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+/**
+ * Cloud height mixin
+ * The dimension cloud height is read in renderClouds on 1.21/1.21.1 and in render on 1.21.2+
+ */
+@Mixin(WorldRenderer.class)
+public class MixinCloudHeight {
+
+    @ModifyExpressionValue(method = {"renderClouds", "render"},
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/client/render/DimensionEffects;getCloudsHeight()F"),
+        require = 0)
+    private float vulkanmodExtra$applyCloudHeight(float cloudHeight) {
+        return CloudStage.adjustCloudHeight(cloudHeight);
+    }
+}
@@ -0,0 +1,73 @@
+package com.criticalrange.mixins.details;
+
+import com.criticalrange.optimization.cloud.CloudStage;
+import com.llamalad7.mixinextras.injector.ModifyExpressionValue;
+import net.minecraft.client.render.BuiltBuffer;
+import net.minecraft.client.render.WorldRenderer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Constant;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.ModifyConstant;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Cloud stage mixin for Minecraft 1.21/1.21.1
+ * Applies cloud distance to the generated cloud tiles, throttles mesh rebuilds caused by sky color drift
+ * and measures every mesh build. Cloud height is applied for all versions by MixinCloudHeight.
+ */
+@Mixin(WorldRenderer.class)
+public class MixinCloudStage {
+
+    private static final String RENDER_CLOUDS = "renderClouds(Lnet/minecraft/client/util/math/MatrixStack;Lorg/joml/Matrix4f;Lorg/joml/Matrix4f;FDDD)V";
+    private static final String BUILD_CLOUDS = "renderClouds(Lnet/minecraft/client/render/Tessellator;DDDLnet/minecraft/util/math/Vec3d;)Lnet/minecraft/client/render/BuiltBuffer;";
+
+    @Shadow
+    private boolean cloudsDirty;
+
+    /**
+     * Force a rebuild when the config changed so a new cloud distance takes effect immediately
+     */
+    @Inject(method = RENDER_CLOUDS, at = @At("HEAD"), require = 0)
+    private void vulkanmodExtra$rebuildOnConfigChange(CallbackInfo ci) {
+        if (CloudStage.consumeConfigChange()) {
+            this.cloudsDirty = true;
+        }
+    }
+
+    /**
+     * Vanilla rebuilds the mesh whenever the sky color moves slightly, which happens constantly at dusk
+     */
+    @ModifyExpressionValue(method = RENDER_CLOUDS,
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/util/math/Vec3d;squaredDistanceTo(Lnet/minecraft/util/math/Vec3d;)D"),
+        require = 0)
+    private double vulkanmodExtra$throttleColorRebuild(double squaredDistance) {
+        return CloudStage.throttleColorChange(squaredDistance);
+    }
+
+    @Inject(method = BUILD_CLOUDS, at = @At("HEAD"), require = 0)
+    private void vulkanmodExtra$beginMeshBuild(CallbackInfoReturnable<BuiltBuffer> cir) {
+        CloudStage.beginMeshBuild();
+    }
+
+    @Inject(method = BUILD_CLOUDS, at = @At("RETURN"), require = 0)
+    private void vulkanmodExtra$endMeshBuild(CallbackInfoReturnable<BuiltBuffer> cir) {
+        BuiltBuffer buffer = cir.getReturnValue();
+        CloudStage.endMeshBuild(buffer != null ? buffer.getDrawParameters().vertexCount() : 0);
+    }
+
+    /**
+     * Fancy cloud tiles run from -3 to 4 on both axes; scale that range with the cloud distance
+     */
+    @ModifyConstant(method = BUILD_CLOUDS, constant = @Constant(intValue = -3), require = 0)
+    private int vulkanmodExtra$cloudTileStart(int original) {
+        return 1 - CloudStage.getTileRadius();
+    }
+
+    @ModifyConstant(method = BUILD_CLOUDS, constant = @Constant(intValue = 4), require = 0)
+    private int vulkanmodExtra$cloudTileEnd(int original) {
+        return CloudStage.getTileRadius();
+    }
+}
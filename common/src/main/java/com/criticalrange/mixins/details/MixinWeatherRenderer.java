@@ -9,18 +9,17 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 /**
- * Weather rendering control mixin
- * Controls rain and snow particle effects and weather sounds
- * Platform-specific versions will override this with correct method names
+ * Weather effect control mixin
+ * Controls rain splash particles and weather sounds
+ * Rain and snow rendering itself is controlled by MixinLevelRenderer on 1.21/1.21.1
  */
 @Mixin(WorldRenderer.class)
 public class MixinWeatherRenderer {
 
     /**
      * Control weather particles and sound effects
-     * This method will be overridden by platform-specific mixins
      */
-    @Inject(method = "*", at = @At("HEAD"), require = 0)
+    @Inject(method = "tickRainSplashing", at = @At("HEAD"), cancellable = true, require = 0)
     private void vulkanmodExtra$controlWeatherParticles(Camera camera, CallbackInfo ci) {
         if (VulkanModExtra.CONFIG != null && VulkanModExtra.CONFIG.detailSettings != null) {
             // Cancel weather effects when rain/snow toggle is disabled
@@ -29,4 +28,4 @@ public class MixinWeatherRenderer {
             }
         }
     }
-}
\ No newline at end of file
+}
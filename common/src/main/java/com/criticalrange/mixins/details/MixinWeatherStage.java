@@ -0,0 +1,77 @@
+package com.criticalrange.mixins.details;
+
+import com.criticalrange.optimization.weather.WeatherStage;
+import com.llamalad7.mixinextras.injector.v2.WrapWithCondition;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.client.render.LightmapTextureManager;
+import net.minecraft.client.render.WorldRenderer;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.particle.ParticleEffect;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.World;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Constant;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.ModifyConstant;
+import org.spongepowered.asm.mixin.injection.ModifyVariable;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Weather stage mixin for Minecraft 1.21/1.21.1
+ * Applies weather radius, column density and rain splash rate, and serves the weather column
+ * heights from the per-chunk heightmap cache. 1.21.2+ moved this code to WeatherRendering.
+ */
+@Mixin(WorldRenderer.class)
+public class MixinWeatherStage {
+
+    private static final String RENDER_WEATHER = "renderWeather(Lnet/minecraft/client/render/LightmapTextureManager;FDDD)V";
+
+    @Shadow
+    private ClientWorld world;
+
+    @Inject(method = RENDER_WEATHER, at = @At("HEAD"), require = 0)
+    private void vulkanmodExtra$beginWeather(LightmapTextureManager manager, float tickDelta,
+                                             double cameraX, double cameraY, double cameraZ, CallbackInfo ci) {
+        if (this.world != null) {
+            WeatherStage.beginWeather(this.world, cameraX, cameraZ);
+        }
+    }
+
+    /**
+     * The weather radius is the fourth int local: 5 on Fast graphics, 10 on Fancy
+     */
+    @ModifyVariable(method = RENDER_WEATHER, at = @At("STORE"), ordinal = 3, require = 0)
+    private int vulkanmodExtra$weatherRadius(int vanillaRadius) {
+        return WeatherStage.getRadius(vanillaRadius);
+    }
+
+    @WrapOperation(method = RENDER_WEATHER,
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/world/World;getTopY(Lnet/minecraft/world/Heightmap$Type;II)I"),
+        require = 0)
+    private int vulkanmodExtra$weatherColumnTop(World world, Heightmap.Type type, int x, int z, Operation<Integer> original) {
+        if (!WeatherStage.shouldRenderColumn(x, z)) {
+            return WeatherStage.HIDDEN_COLUMN;
+        }
+        int height = WeatherStage.getCachedTopY(world, x, z);
+        return height != WeatherStage.NO_HEIGHT ? height : WeatherStage.cacheTopY(x, z, original.call(world, type, x, z));
+    }
+
+    /**
+     * Rain splashes sample 100 * rain gradient^2 random columns per tick
+     */
+    @ModifyConstant(method = "tickRainSplashing", constant = @Constant(floatValue = 100.0F), require = 0)
+    private float vulkanmodExtra$rainSplashCount(float vanillaCount) {
+        return WeatherStage.scaleSplashCount(vanillaCount);
+    }
+
+    @WrapWithCondition(method = "tickRainSplashing",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/client/world/ClientWorld;addParticle(Lnet/minecraft/particle/ParticleEffect;DDDDDD)V"),
+        require = 0)
+    private boolean vulkanmodExtra$rainSplashParticle(ClientWorld world, ParticleEffect particle,
+                                                      double x, double y, double z, double velocityX, double velocityY, double velocityZ) {
+        return WeatherStage.shouldSpawnSplashParticles();
+    }
+}
@@ -0,0 +1,28 @@
+package com.criticalrange.mixins.optimization;
+
+import com.criticalrange.optimization.entity.BlockEntityTickThrottle;
+import com.llamalad7.mixinextras.injector.v2.WrapWithCondition;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.BlockEntityTicker;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+/**
+ * Client block entity tick throttling
+ * Every ticking block entity is driven through this invoker from World.tickBlockEntities; the wrapped
+ * call is the block entity's own ticker, so the invoker's removal and chunk checks still run.
+ */
+@Mixin(targets = "net.minecraft.world.chunk.WorldChunk$DirectBlockEntityTickInvoker")
+public class MixinBlockEntityTickThrottle {
+
+    @WrapWithCondition(method = "tick",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/block/entity/BlockEntityTicker;tick(Lnet/minecraft/world/World;Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/BlockState;Lnet/minecraft/block/entity/BlockEntity;)V"),
+        require = 0)
+    private boolean vulkanmodExtra$throttleTicker(BlockEntityTicker<?> ticker, World world, BlockPos pos,
+                                                  BlockState state, BlockEntity blockEntity) {
+        return BlockEntityTickThrottle.shouldTick(world, pos, blockEntity);
+    }
+}
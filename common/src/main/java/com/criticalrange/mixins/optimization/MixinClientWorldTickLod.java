@@ -0,0 +1,32 @@
+package com.criticalrange.mixins.optimization;
+
+import com.criticalrange.optimization.entity.EntityTickLod;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.entity.Entity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Client entity tick scheduler
+ * tickEntity resets the previous position and runs the entity's tick; skipping it as a whole keeps
+ * the entity's interpolation anchors intact until its next scheduled tick. Passengers are ticked
+ * by their vehicle and never reach this method directly.
+ */
+@Mixin(ClientWorld.class)
+public class MixinClientWorldTickLod {
+
+    @Inject(method = "tickEntities", at = @At("HEAD"), require = 0)
+    private void vulkanmodExtra$beginEntityTick(CallbackInfo ci) {
+        EntityTickLod.beginTick(MinecraftClient.getInstance());
+    }
+
+    @Inject(method = "tickEntity(Lnet/minecraft/entity/Entity;)V", at = @At("HEAD"), cancellable = true, require = 0)
+    private void vulkanmodExtra$scheduleEntityTick(Entity entity, CallbackInfo ci) {
+        if (!EntityTickLod.shouldTick(entity)) {
+            ci.cancel();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.criticalrange.mixins.optimization;
+
+import com.criticalrange.optimization.entity.EntityTickLod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.render.WorldRenderer;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.entity.Entity;
+import org.spongepowered.asm.mixin.Mixin;
+
+/**
+ * Stretched interpolation for entities ticking below full rate, Minecraft 1.21 to 1.21.8
+ * renderEntity interpolates both position and pose from its tick delta, so replacing the delta
+ * here covers the whole entity. 1.21.9+ extracts render states elsewhere and has its own mixin.
+ */
+@Mixin(WorldRenderer.class)
+public class MixinEntityTickLodRender {
+
+    @WrapMethod(method = "renderEntity(Lnet/minecraft/entity/Entity;DDDFLnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/client/render/VertexConsumerProvider;)V",
+        require = 0)
+    private void vulkanmodExtra$stretchInterpolation(Entity entity, double cameraX, double cameraY, double cameraZ,
+                                                     float tickDelta, MatrixStack matrices, VertexConsumerProvider vertexConsumers,
+                                                     Operation<Void> original) {
+        original.call(entity, cameraX, cameraY, cameraZ, EntityTickLod.getRenderTickDelta(entity, tickDelta),
+            matrices, vertexConsumers);
+    }
+}
@@ -0,0 +1,35 @@
+package com.criticalrange.mixins.optimization;
+
+import com.criticalrange.optimization.entity.TickLodHolder;
+import net.minecraft.entity.Entity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+/**
+ * Stores the tick level-of-detail state on every entity
+ */
+@Mixin(Entity.class)
+public class MixinEntityTickLodState implements TickLodHolder {
+
+    @Unique
+    private int vulkanmodExtra$tickInterval = 1;
+
+    @Unique
+    private long vulkanmodExtra$lastTick = 0;
+
+    @Override
+    public int vulkanmodExtra$getTickInterval() {
+        return this.vulkanmodExtra$tickInterval;
+    }
+
+    @Override
+    public long vulkanmodExtra$getLastTick() {
+        return this.vulkanmodExtra$lastTick;
+    }
+
+    @Override
+    public void vulkanmodExtra$setTicked(long tickIndex, int interval) {
+        this.vulkanmodExtra$lastTick = tickIndex;
+        this.vulkanmodExtra$tickInterval = interval;
+    }
+}
@@ -0,0 +1,24 @@
+package com.criticalrange.mixins.optimization;
+
+import com.criticalrange.optimization.sky.SkyVisibility;
+import net.minecraft.client.render.WorldRenderer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Automatic sky skip mixin
+ * Skips the sky pass while the sky cannot be seen from the camera
+ * Clouds are skipped by MixinCloudRendering, whose target differs between versions
+ */
+@Mixin(WorldRenderer.class)
+public class MixinSkySkip {
+
+    @Inject(method = "renderSky", at = @At("HEAD"), cancellable = true, require = 0)
+    private void vulkanmodExtra$skipHiddenSky(CallbackInfo ci) {
+        if (SkyVisibility.shouldSkipSky()) {
+            ci.cancel();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.criticalrange.mixins.optimization;
+
+import com.criticalrange.optimization.FrameState;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.WorldRenderer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Frame start hook
+ * Refreshes per-frame optimization decisions once the camera is set up for the frame
+ */
+@Mixin(WorldRenderer.class)
+public class MixinWorldRendererFrame {
+
+    @Inject(method = "render", at = @At("HEAD"), require = 0)
+    private void vulkanmodExtra$beginFrame(CallbackInfo ci) {
+        FrameState.beginFrame(MinecraftClient.getInstance());
+    }
+}
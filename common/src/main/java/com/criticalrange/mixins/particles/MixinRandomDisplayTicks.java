@@ -0,0 +1,87 @@
+package com.criticalrange.mixins.particles;
+
+import com.criticalrange.optimization.particle.BlockDisplayTicks;
+import com.llamalad7.mixinextras.injector.ModifyExpressionValue;
+import com.llamalad7.mixinextras.injector.v2.WrapWithCondition;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.particle.ParticleEffect;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.World;
+import net.minecraft.world.biome.BiomeParticleConfig;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Constant;
+import org.spongepowered.asm.mixin.injection.ModifyConstant;
+
+import java.util.Optional;
+
+/**
+ * Random block display tick control
+ * Scales the sample count and radius of doRandomBlockDisplayTicks, reuses its random and mutable
+ * position, and filters each sampled block, fluid and biome by family.
+ */
+@Mixin(ClientWorld.class)
+public class MixinRandomDisplayTicks {
+
+    private static final String DISPLAY_TICKS = "doRandomBlockDisplayTicks";
+    private static final String DISPLAY_TICK = "randomBlockDisplayTick";
+
+    @ModifyConstant(method = DISPLAY_TICKS, constant = @Constant(intValue = 667), require = 0)
+    private int vulkanmodExtra$displayTickSamples(int vanillaSamples) {
+        return BlockDisplayTicks.getSamples(vanillaSamples);
+    }
+
+    @ModifyConstant(method = DISPLAY_TICKS, constant = {@Constant(intValue = 16), @Constant(intValue = 32)}, require = 0)
+    private int vulkanmodExtra$displayTickRadius(int vanillaRadius) {
+        return BlockDisplayTicks.getRadius(vanillaRadius);
+    }
+
+    @WrapOperation(method = DISPLAY_TICKS,
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/util/math/random/Random;create()Lnet/minecraft/util/math/random/Random;"),
+        require = 0)
+    private Random vulkanmodExtra$reuseRandom(Operation<Random> original) {
+        return BlockDisplayTicks.getRandom();
+    }
+
+    @WrapOperation(method = DISPLAY_TICKS, at = @At(value = "NEW", target = "net/minecraft/util/math/BlockPos$Mutable"), require = 0)
+    private BlockPos.Mutable vulkanmodExtra$reusePos(Operation<BlockPos.Mutable> original) {
+        return BlockDisplayTicks.getPos();
+    }
+
+    @WrapWithCondition(method = DISPLAY_TICK,
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/block/Block;randomDisplayTick(Lnet/minecraft/block/BlockState;Lnet/minecraft/world/World;Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/util/math/random/Random;)V"),
+        require = 0)
+    private boolean vulkanmodExtra$blockDisplayTick(Block block, BlockState state, World world, BlockPos pos, Random random) {
+        return BlockDisplayTicks.shouldTick(block);
+    }
+
+    @WrapWithCondition(method = DISPLAY_TICK,
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/fluid/FluidState;randomDisplayTick(Lnet/minecraft/world/World;Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/util/math/random/Random;)V"),
+        require = 0)
+    private boolean vulkanmodExtra$fluidDisplayTick(FluidState fluidState, World world, BlockPos pos, Random random) {
+        return BlockDisplayTicks.shouldTickFluids();
+    }
+
+    /**
+     * Drips under fluids
+     */
+    @ModifyExpressionValue(method = DISPLAY_TICK,
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/fluid/FluidState;getParticle()Lnet/minecraft/particle/ParticleEffect;"),
+        require = 0)
+    private ParticleEffect vulkanmodExtra$fluidDripParticle(ParticleEffect particle) {
+        return BlockDisplayTicks.shouldTickFluids() ? particle : null;
+    }
+
+    @ModifyExpressionValue(method = DISPLAY_TICK,
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/world/biome/Biome;getParticleConfig()Ljava/util/Optional;"),
+        require = 0)
+    private Optional<BiomeParticleConfig> vulkanmodExtra$biomeAmbientParticle(Optional<BiomeParticleConfig> config) {
+        return BlockDisplayTicks.shouldTickBiomeAmbient() ? config : Optional.empty();
+    }
+}
@@ -0,0 +1,16 @@
+package com.criticalrange.mixins.render;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.world.chunk.light.ChunkLightProvider;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Exposes the pending block light checks so the light update scheduler can defer part of them
+ */
+@Mixin(ChunkLightProvider.class)
+public interface ChunkLightProviderAccessor {
+
+    @Accessor("blockPositionsToCheck")
+    LongOpenHashSet vulkanmodExtra$getBlockPositionsToCheck();
+}
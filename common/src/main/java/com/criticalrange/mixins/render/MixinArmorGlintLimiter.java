@@ -0,0 +1,23 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.entity.GlintShadowLimiter;
+import net.minecraft.client.render.entity.feature.ArmorFeatureRenderer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Armor glint distance and per-frame cap for Minecraft 1.21/1.21.1
+ * The glint is a separate pass over the armor model; 1.21.2+ routes it through ItemRenderer instead.
+ */
+@Mixin(ArmorFeatureRenderer.class)
+public class MixinArmorGlintLimiter {
+
+    @Inject(method = "renderGlint", at = @At("HEAD"), cancellable = true, require = 0)
+    private void vulkanmodExtra$limitGlint(CallbackInfo ci) {
+        if (!GlintShadowLimiter.shouldRenderGlint()) {
+            ci.cancel();
+        }
+    }
+}
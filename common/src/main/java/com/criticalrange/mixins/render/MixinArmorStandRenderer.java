@@ -1,6 +1,12 @@
 package com.criticalrange.mixins.render;
 
 import com.criticalrange.VulkanModExtra;
+import com.criticalrange.optimization.entity.DecorationBaker;
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.decoration.ArmorStandEntity;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
@@ -14,10 +20,12 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 @Mixin(net.minecraft.client.render.entity.LivingEntityRenderer.class)
 public class MixinArmorStandRenderer {
 
+    private static final String RENDER_1_21_1 = "render(Lnet/minecraft/entity/LivingEntity;FFLnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/client/render/VertexConsumerProvider;I)V";
+
     /**
      * 1.21.1: LivingEntityRenderer.render method with ArmorStand filtering
      */
-    @Inject(method = "render(Lnet/minecraft/entity/LivingEntity;FFLnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/client/render/VertexConsumerProvider;I)V",
+    @Inject(method = RENDER_1_21_1,
             at = @At("HEAD"), cancellable = true)
     private void controlRendering1_21_1(net.minecraft.entity.LivingEntity livingEntity, float f, float g,
                                        net.minecraft.client.util.math.MatrixStack matrixStack, net.minecraft.client.render.VertexConsumerProvider vertexConsumerProvider,
@@ -28,4 +36,22 @@ public class MixinArmorStandRenderer {
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 1.21.1: motionless armor stands are drawn from their baked vertices
+     */
+    @WrapMethod(method = RENDER_1_21_1, require = 0)
+    private void vulkanmodExtra$bakeStaticArmorStand(LivingEntity entity, float yaw, float tickDelta, MatrixStack matrices,
+                                                     VertexConsumerProvider vertexConsumers, int light, Operation<Void> original) {
+        if (!(entity instanceof ArmorStandEntity)) {
+            original.call(entity, yaw, tickDelta, matrices, vertexConsumers, light);
+            return;
+        }
+        if (DecorationBaker.replay(entity, matrices, vertexConsumers, light)) {
+            return;
+        }
+        VertexConsumerProvider target = DecorationBaker.beginCapture(entity, matrices, vertexConsumers);
+        original.call(entity, yaw, tickDelta, matrices, target, light);
+        DecorationBaker.endCapture(target, matrices);
+    }
+}
@@ -0,0 +1,20 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.texture.ResourceGeneration;
+import net.minecraft.client.texture.SpriteAtlasTexture;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Bumps the resource generation whenever a sprite atlas is re-stitched, which happens on every resource reload
+ */
+@Mixin(SpriteAtlasTexture.class)
+public class MixinAtlasReload {
+
+    @Inject(method = "upload", at = @At("RETURN"), require = 0)
+    private void vulkanmodExtra$onAtlasUpload(CallbackInfo ci) {
+        ResourceGeneration.onAtlasUpload();
+    }
+}
@@ -0,0 +1,35 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.texture.BannerTextureCache;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import net.minecraft.client.model.ModelPart;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.render.block.entity.BannerBlockEntityRenderer;
+import net.minecraft.client.util.SpriteIdentifier;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.component.type.BannerPatternsComponent;
+import net.minecraft.util.DyeColor;
+import org.spongepowered.asm.mixin.Mixin;
+
+/**
+ * Composited banner textures for Minecraft 1.21/1.21.1
+ * renderCanvas draws the base and every pattern layer of banners and shields; banners without glint
+ * are drawn once from their composited slot instead. 1.21.2+ changed the canvas rendering signature.
+ */
+@Mixin(BannerBlockEntityRenderer.class)
+public class MixinBannerTextureCache {
+
+    private static final String RENDER_CANVAS = "renderCanvas(Lnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/client/render/VertexConsumerProvider;IILnet/minecraft/client/model/ModelPart;Lnet/minecraft/client/util/SpriteIdentifier;ZLnet/minecraft/util/DyeColor;Lnet/minecraft/component/type/BannerPatternsComponent;Z)V";
+
+    @WrapMethod(method = RENDER_CANVAS, require = 0)
+    private static void vulkanmodExtra$compositedCanvas(MatrixStack matrices, VertexConsumerProvider vertexConsumers,
+                                                        int light, int overlay, ModelPart canvas, SpriteIdentifier baseSprite,
+                                                        boolean isBanner, DyeColor color, BannerPatternsComponent patterns,
+                                                        boolean glint, Operation<Void> original) {
+        if (!isBanner || glint
+            || !BannerTextureCache.render(matrices, vertexConsumers, light, overlay, canvas, baseSprite, color, patterns)) {
+            original.call(matrices, vertexConsumers, light, overlay, canvas, baseSprite, isBanner, color, patterns, glint);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.container.StaticContainers;
+import com.criticalrange.optimization.entity.BeaconBeamLimiter;
+import com.criticalrange.optimization.entity.BlockEntityRenderDistance;
+import com.criticalrange.optimization.occlusion.OcclusionCuller;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.client.render.block.entity.BlockEntityRenderDispatcher;
+import net.minecraft.client.render.block.entity.BlockEntityRenderer;
+import net.minecraft.util.math.Vec3d;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+/**
+ * Per-block-entity-type render distance, occlusion culling, the visible beacon beam cap and
+ * closed containers that are drawn by the chunk mesh instead
+ * Wraps the renderer's own distance check wherever the dispatcher makes it: in render on 1.21-1.21.8
+ * and in render state extraction on 1.21.9+, so culled block entities never reach their renderer
+ */
+@Mixin(BlockEntityRenderDispatcher.class)
+public class MixinBlockEntityRenderDistance {
+
+    @WrapOperation(method = "*",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/client/render/block/entity/BlockEntityRenderer;isInRenderDistance(Lnet/minecraft/block/entity/BlockEntity;Lnet/minecraft/util/math/Vec3d;)Z"),
+        require = 0)
+    private boolean vulkanmodExtra$cullByTypeDistance(BlockEntityRenderer<BlockEntity> renderer, BlockEntity blockEntity,
+                                                      Vec3d cameraPos, Operation<Boolean> original) {
+        return !BlockEntityRenderDistance.isBeyondDistance(blockEntity, cameraPos) && original.call(renderer, blockEntity, cameraPos)
+            && StaticContainers.shouldRenderBlockEntity(blockEntity)
+            && !OcclusionCuller.isBlockEntityOccluded(blockEntity, cameraPos)
+            && BeaconBeamLimiter.shouldRenderBeam(blockEntity, cameraPos);
+    }
+}
@@ -0,0 +1,35 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.entity.RenderDistanceHolder;
+import net.minecraft.block.entity.BlockEntityType;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+/**
+ * Stores the per-type render distance limit on every block entity type
+ */
+@Mixin(BlockEntityType.class)
+public class MixinBlockEntityTypeRenderDistance implements RenderDistanceHolder {
+
+    @Unique
+    private int vulkanmodExtra$distanceVersion = -1;
+
+    @Unique
+    private double vulkanmodExtra$maxDistanceSq = 0.0;
+
+    @Override
+    public int vulkanmodExtra$getDistanceVersion() {
+        return this.vulkanmodExtra$distanceVersion;
+    }
+
+    @Override
+    public double vulkanmodExtra$getMaxDistanceSq() {
+        return this.vulkanmodExtra$maxDistanceSq;
+    }
+
+    @Override
+    public void vulkanmodExtra$setMaxDistance(int configVersion, double maxDistanceSq) {
+        this.vulkanmodExtra$maxDistanceSq = maxDistanceSq;
+        this.vulkanmodExtra$distanceVersion = configVersion;
+    }
+}
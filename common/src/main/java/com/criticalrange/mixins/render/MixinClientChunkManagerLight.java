@@ -0,0 +1,24 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.light.OffThreadLightEngine;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import net.minecraft.client.world.ClientChunkManager;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.LightType;
+import org.spongepowered.asm.mixin.Mixin;
+
+/**
+ * Sections relit by an off-thread light pass are scheduled for rebuild when the pass is published
+ * on the render thread, not from the light worker
+ */
+@Mixin(ClientChunkManager.class)
+public class MixinClientChunkManagerLight {
+
+    @WrapMethod(method = "onLightUpdate", require = 0)
+    private void vulkanmodExtra$recordLightUpdate(LightType type, ChunkSectionPos pos, Operation<Void> original) {
+        if (!OffThreadLightEngine.recordChangedSection(pos.asLong(), () -> original.call(type, pos))) {
+            original.call(type, pos);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.container.StaticContainers;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.ChestBlockEntity;
+import net.minecraft.block.entity.EnderChestBlockEntity;
+import net.minecraft.block.entity.ShulkerBoxBlockEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Block event 1 carries the viewer count of a container; a positive count opens the lid on the next tick
+ */
+@Mixin({ChestBlockEntity.class, EnderChestBlockEntity.class, ShulkerBoxBlockEntity.class})
+public class MixinContainerLidEvent {
+
+    @Inject(method = "onSyncedBlockEvent(II)Z", at = @At("HEAD"), require = 0)
+    private void vulkanmodExtra$onLidEvent(int type, int data, CallbackInfoReturnable<Boolean> cir) {
+        if (type == 1) {
+            StaticContainers.onLidEvent((BlockEntity) (Object) this, data);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.container.StaticContainers;
+import net.minecraft.block.BlockRenderType;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.ChestBlock;
+import net.minecraft.block.EnderChestBlock;
+import net.minecraft.block.ShulkerBoxBlock;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Chests, trapped chests, ender chests and shulker boxes report a model render type while static
+ * container models are on, so the chunk builder puts them into the section mesh
+ */
+@Mixin({ChestBlock.class, EnderChestBlock.class, ShulkerBoxBlock.class})
+public class MixinContainerRenderType {
+
+    @Inject(method = "getRenderType(Lnet/minecraft/block/BlockState;)Lnet/minecraft/block/BlockRenderType;",
+        at = @At("RETURN"), cancellable = true, require = 0)
+    private void vulkanmodExtra$staticContainerRenderType(BlockState state, CallbackInfoReturnable<BlockRenderType> cir) {
+        cir.setReturnValue(StaticContainers.getRenderType(cir.getReturnValue()));
+    }
+}
@@ -0,0 +1,37 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.entity.EntityRenderDistance;
+import com.criticalrange.optimization.occlusion.OcclusionCuller;
+import net.minecraft.client.render.Frustum;
+import net.minecraft.client.render.entity.EntityRenderDispatcher;
+import net.minecraft.entity.Entity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Per-entity-type render distance and occlusion culling
+ * shouldRender runs before the frustum test and, on 1.21.2+, before the render state is extracted,
+ * so entities past their type's distance cost a single distance compare. Entities that pass the
+ * frustum test are then checked against the last occlusion culling pass.
+ */
+@Mixin(EntityRenderDispatcher.class)
+public class MixinEntityRenderDistance {
+
+    @Inject(method = "shouldRender", at = @At("HEAD"), cancellable = true, require = 0)
+    private void vulkanmodExtra$cullByTypeDistance(Entity entity, Frustum frustum, double x, double y, double z,
+                                                   CallbackInfoReturnable<Boolean> cir) {
+        if (EntityRenderDistance.isBeyondDistance(entity, x, y, z)) {
+            cir.setReturnValue(false);
+        }
+    }
+
+    @Inject(method = "shouldRender", at = @At("RETURN"), cancellable = true, require = 0)
+    private void vulkanmodExtra$cullOccluded(Entity entity, Frustum frustum, double x, double y, double z,
+                                             CallbackInfoReturnable<Boolean> cir) {
+        if (cir.getReturnValueZ() && OcclusionCuller.isEntityOccluded(entity, x, y, z)) {
+            cir.setReturnValue(false);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.entity.EntityRenderLod;
+import com.criticalrange.optimization.entity.ItemEntityLod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.render.WorldRenderer;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.entity.Entity;
+import org.spongepowered.asm.mixin.Mixin;
+
+/**
+ * Entity render LOD scope, Minecraft 1.21 to 1.21.8
+ * Holds the entity's LOD level while it renders so the shadow and model mixins can read it, and tells
+ * the item LOD which stack is being drawn.
+ * 1.21.9+ only extracts render states here and draws them later, so the LOD does not apply there.
+ */
+@Mixin(WorldRenderer.class)
+public class MixinEntityRenderLod {
+
+    @WrapMethod(method = "renderEntity(Lnet/minecraft/entity/Entity;DDDFLnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/client/render/VertexConsumerProvider;)V",
+        require = 0)
+    private void vulkanmodExtra$renderWithLod(Entity entity, double cameraX, double cameraY, double cameraZ,
+                                              float tickDelta, MatrixStack matrices, VertexConsumerProvider vertexConsumers,
+                                              Operation<Void> original) {
+        EntityRenderLod.beginEntity(entity, cameraX, cameraY, cameraZ);
+        ItemEntityLod.beginEntity(entity);
+        try {
+            original.call(entity, cameraX, cameraY, cameraZ, tickDelta, matrices, vertexConsumers);
+        } finally {
+            EntityRenderLod.endEntity();
+            ItemEntityLod.endEntity();
+        }
+    }
+}
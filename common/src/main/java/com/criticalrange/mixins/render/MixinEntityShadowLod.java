@@ -0,0 +1,24 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.entity.EntityRenderLod;
+import com.criticalrange.optimization.entity.GlintShadowLimiter;
+import net.minecraft.client.render.entity.EntityRenderDispatcher;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Skips entity shadows for entities at or past the shadow LOD band, past the shadow distance
+ * or over the per-frame shadow cap
+ */
+@Mixin(EntityRenderDispatcher.class)
+public class MixinEntityShadowLod {
+
+    @Inject(method = "renderShadow", at = @At("HEAD"), cancellable = true, require = 0)
+    private static void vulkanmodExtra$skipShadow(CallbackInfo ci) {
+        if (!EntityRenderLod.shouldRenderShadow() || !GlintShadowLimiter.shouldRenderShadow()) {
+            ci.cancel();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.entity.ItemEntityLod;
+import net.minecraft.client.render.Frustum;
+import net.minecraft.client.render.entity.EntityRenderDispatcher;
+import net.minecraft.entity.Entity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Dropped item and experience orb clustering and per-section cap
+ * Runs after the vanilla checks so only items that would be drawn take a cluster or section slot
+ */
+@Mixin(EntityRenderDispatcher.class)
+public class MixinItemEntityLod {
+
+    @Inject(method = "shouldRender", at = @At("RETURN"), cancellable = true, require = 0)
+    private void vulkanmodExtra$itemLod(Entity entity, Frustum frustum, double x, double y, double z,
+                                        CallbackInfoReturnable<Boolean> cir) {
+        if (cir.getReturnValueZ() && !ItemEntityLod.shouldRender(entity, x, y, z)) {
+            cir.setReturnValue(false);
+        }
+    }
+}
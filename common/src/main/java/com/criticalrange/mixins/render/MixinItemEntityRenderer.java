@@ -0,0 +1,20 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.entity.ItemEntityLod;
+import com.llamalad7.mixinextras.injector.ModifyReturnValue;
+import net.minecraft.client.render.entity.ItemEntityRenderer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+/**
+ * Single model per dropped stack past the item LOD distance
+ * getRenderedAmount turns the stack size into the number of model copies to draw
+ */
+@Mixin(ItemEntityRenderer.class)
+public class MixinItemEntityRenderer {
+
+    @ModifyReturnValue(method = "getRenderedAmount(I)I", at = @At("RETURN"), require = 0)
+    private static int vulkanmodExtra$singleModel(int renderedAmount) {
+        return ItemEntityLod.getRenderedAmount(renderedAmount);
+    }
+}
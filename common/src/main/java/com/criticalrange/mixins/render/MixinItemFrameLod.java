@@ -0,0 +1,26 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.entity.ItemFrameLod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.client.render.entity.ItemFrameEntityRenderer;
+import net.minecraft.entity.decoration.ItemFrameEntity;
+import net.minecraft.item.ItemStack;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+/**
+ * Item frame level of detail
+ * The renderer reads the held stack in render on 1.21/1.21.1 and in render state extraction on 1.21.2+;
+ * past the LOD distance it sees an empty frame
+ */
+@Mixin(ItemFrameEntityRenderer.class)
+public class MixinItemFrameLod {
+
+    @WrapOperation(method = "*",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/decoration/ItemFrameEntity;getHeldItemStack()Lnet/minecraft/item/ItemStack;"),
+        require = 0)
+    private ItemStack vulkanmodExtra$itemFrameLod(ItemFrameEntity frame, Operation<ItemStack> original) {
+        return ItemFrameLod.getRenderedStack(frame, original.call(frame));
+    }
+}
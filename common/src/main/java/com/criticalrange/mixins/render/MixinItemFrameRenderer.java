@@ -1,7 +1,9 @@
 package com.criticalrange.mixins.render;
 
 import com.criticalrange.VulkanModExtra;
+import com.criticalrange.optimization.nametag.NameTagDecision;
 import net.minecraft.client.render.entity.ItemFrameEntityRenderer;
+import net.minecraft.entity.decoration.ItemFrameEntity;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -33,13 +35,11 @@ public class MixinItemFrameRenderer {
 
 
     /**
-     * Universal: hasLabel method (works across all versions)
-     * For 1.21.1: hasLabel(ItemFrameEntity)
-     * For 1.21.2+: hasLabel() with no parameters
+     * Item frame name tag: hasLabel(ItemFrameEntity), routed through the shared name tag decision
      */
-    @Inject(method = "hasLabel", at = @At("HEAD"), cancellable = true, require = 0)
-    private void controlNameTag(CallbackInfoReturnable<Boolean> cir) {
-        if (VulkanModExtra.CONFIG != null && !VulkanModExtra.CONFIG.renderSettings.itemFrameNameTag) {
+    @Inject(method = "hasLabel(Lnet/minecraft/entity/decoration/ItemFrameEntity;)Z", at = @At("HEAD"), cancellable = true, require = 0)
+    private void controlNameTag(ItemFrameEntity entity, CallbackInfoReturnable<Boolean> cir) {
+        if (!NameTagDecision.shouldShowLabel(entity, NameTagDecision.UNKNOWN_DISTANCE)) {
             cir.setReturnValue(false);
         }
     }
@@ -0,0 +1,30 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.entity.GlintShadowLimiter;
+import net.minecraft.client.render.item.ItemRenderer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.ModifyVariable;
+
+/**
+ * Glint distance and per-frame cap for items drawn as part of an entity
+ * The glint consumers add the glint layer only when their glint flag is set, so clearing the flag
+ * drops the extra pass and leaves the item itself untouched.
+ */
+@Mixin(ItemRenderer.class)
+public class MixinItemGlintLimiter {
+
+    @ModifyVariable(method = {"getItemGlintConsumer", "getDirectItemGlintConsumer"}, at = @At("HEAD"),
+        argsOnly = true, ordinal = 1, require = 0)
+    private static boolean vulkanmodExtra$limitItemGlint(boolean glint) {
+        return glint && GlintShadowLimiter.shouldRenderGlint();
+    }
+
+    /**
+     * 1.21.2+ armor layers pass their glint flag through here
+     */
+    @ModifyVariable(method = "getArmorGlintConsumer", at = @At("HEAD"), argsOnly = true, ordinal = 0, require = 0)
+    private static boolean vulkanmodExtra$limitArmorGlint(boolean glint) {
+        return glint && GlintShadowLimiter.shouldRenderGlint();
+    }
+}
@@ -0,0 +1,42 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.nametag.LabelLayoutCache;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.client.font.TextRenderer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.render.entity.EntityRenderer;
+import net.minecraft.text.StringVisitable;
+import net.minecraft.text.Text;
+import org.joml.Matrix4f;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+/**
+ * Name tag text layout cache
+ * renderLabelIfPresent measures the label and draws it in one or two passes; both read the cached layout.
+ * On 1.21.9+ labels are drawn through the render command queue and these calls no longer exist here.
+ */
+@Mixin(EntityRenderer.class)
+public class MixinLabelLayoutCache {
+
+    @WrapOperation(method = "*",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/client/font/TextRenderer;getWidth(Lnet/minecraft/text/StringVisitable;)I"),
+        require = 0)
+    private int vulkanmodExtra$cachedLabelWidth(TextRenderer textRenderer, StringVisitable label, Operation<Integer> original) {
+        if (label instanceof Text text) {
+            return LabelLayoutCache.getWidth(textRenderer, text);
+        }
+        return original.call(textRenderer, label);
+    }
+
+    @WrapOperation(method = "*",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/client/font/TextRenderer;draw(Lnet/minecraft/text/Text;FFIZLorg/joml/Matrix4f;Lnet/minecraft/client/render/VertexConsumerProvider;Lnet/minecraft/client/font/TextRenderer$TextLayerType;II)I"),
+        require = 0)
+    private int vulkanmodExtra$cachedLabelDraw(TextRenderer textRenderer, Text text, float x, float y, int color, boolean shadow,
+                                               Matrix4f matrix, VertexConsumerProvider vertexConsumers, TextRenderer.TextLayerType layerType,
+                                               int backgroundColor, int light, Operation<Integer> original) {
+        return textRenderer.draw(LabelLayoutCache.getOrderedText(text), x, y, color, shadow, matrix, vertexConsumers,
+            layerType, backgroundColor, light);
+    }
+}
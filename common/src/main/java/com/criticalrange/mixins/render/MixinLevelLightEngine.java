@@ -1,24 +1,100 @@
 package com.criticalrange.mixins.render;
 
-import com.criticalrange.VulkanModExtra;
+import com.criticalrange.optimization.light.LightUpdateScheduler;
+import com.criticalrange.optimization.light.OffThreadLightEngine;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.LightType;
+import net.minecraft.world.chunk.ChunkNibbleArray;
+import net.minecraft.world.chunk.light.ChunkLightProvider;
 import net.minecraft.world.chunk.light.LightingProvider;
 import org.spongepowered.asm.mixin.Mixin;
-import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.asm.mixin.Shadow;
 
 /**
- * Light updates control mixin - SAFE implementation
- * Provides light throttling when enabled, minimal interference when disabled
+ * Light update scheduling
+ * The client runs doLightUpdates once per frame from the world renderer. The scheduler runs it with
+ * only the highest-priority pending checks and keeps the rest queued for later frames; with off-thread
+ * lighting it runs on a worker instead, and calls changing the engine's state wait for the pass to be
+ * published. The server light engine runs on its own thread and is never scheduled.
  */
 @Mixin(LightingProvider.class)
 public class MixinLevelLightEngine {
-    private static int throttleCounter = 0;
 
-    @Inject(at = @At("HEAD"), method = "doLightUpdates", cancellable = true)
-    public void vulkanmodExtra$throttleLightUpdates(CallbackInfoReturnable<Integer> cir) {
-        // Disabled - let vanilla handle all lighting for proper player brightness
+    @Shadow
+    private ChunkLightProvider<?, ?> blockLightProvider;
+
+    @Shadow
+    private ChunkLightProvider<?, ?> skyLightProvider;
+
+    @WrapMethod(method = "doLightUpdates", require = 0)
+    private int vulkanmodExtra$scheduleLightUpdates(Operation<Integer> original) {
+        if (OffThreadLightEngine.handles()) {
+            return OffThreadLightEngine.doLightUpdates((LightingProvider) (Object) this, () -> original.call());
+        }
+        if (!LightUpdateScheduler.isActive()) {
+            return original.call();
+        }
+        return LightUpdateScheduler.run(this.blockLightProvider, this.skyLightProvider, () -> original.call());
+    }
+
+    @WrapMethod(method = "checkBlock", require = 0)
+    private void vulkanmodExtra$deferCheckBlock(BlockPos pos, Operation<Void> original) {
+        if (OffThreadLightEngine.isBusy((LightingProvider) (Object) this)) {
+            // Callers pass mutable positions
+            BlockPos immutable = pos.toImmutable();
+            OffThreadLightEngine.defer(() -> original.call(immutable));
+            return;
+        }
+        original.call(pos);
+    }
+
+    @WrapMethod(method = "setSectionStatus", require = 0)
+    private void vulkanmodExtra$deferSectionStatus(ChunkSectionPos pos, boolean notReady, Operation<Void> original) {
+        if (OffThreadLightEngine.isBusy((LightingProvider) (Object) this)) {
+            OffThreadLightEngine.defer(() -> original.call(pos, notReady));
+            return;
+        }
+        original.call(pos, notReady);
+    }
+
+    @WrapMethod(method = "setColumnEnabled", require = 0)
+    private void vulkanmodExtra$deferColumnEnabled(ChunkPos pos, boolean retainData, Operation<Void> original) {
+        if (OffThreadLightEngine.isBusy((LightingProvider) (Object) this)) {
+            OffThreadLightEngine.defer(() -> original.call(pos, retainData));
+            return;
+        }
+        original.call(pos, retainData);
+    }
+
+    @WrapMethod(method = "propagateLight", require = 0)
+    private void vulkanmodExtra$deferPropagateLight(ChunkPos pos, Operation<Void> original) {
+        if (OffThreadLightEngine.isBusy((LightingProvider) (Object) this)) {
+            OffThreadLightEngine.defer(() -> original.call(pos));
+            return;
+        }
+        original.call(pos);
+    }
+
+    @WrapMethod(method = "enqueueSectionData", require = 0)
+    private void vulkanmodExtra$deferSectionData(LightType lightType, ChunkSectionPos pos, ChunkNibbleArray nibbles,
+                                                 Operation<Void> original) {
+        if (OffThreadLightEngine.isBusy((LightingProvider) (Object) this)) {
+            OffThreadLightEngine.defer(() -> original.call(lightType, pos, nibbles));
+            return;
+        }
+        original.call(lightType, pos, nibbles);
+    }
+
+    @WrapMethod(method = "setRetainData", require = 0)
+    private void vulkanmodExtra$deferRetainData(ChunkPos pos, boolean retainData, Operation<Void> original) {
+        if (OffThreadLightEngine.isBusy((LightingProvider) (Object) this)) {
+            OffThreadLightEngine.defer(() -> original.call(pos, retainData));
+            return;
+        }
+        original.call(pos, retainData);
     }
 }
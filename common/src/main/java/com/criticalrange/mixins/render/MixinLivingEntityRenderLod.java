@@ -0,0 +1,25 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.entity.EntityRenderLod;
+import com.llamalad7.mixinextras.injector.ModifyExpressionValue;
+import net.minecraft.client.render.entity.LivingEntityRenderer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+import java.util.List;
+
+/**
+ * Entity render LOD for living entities
+ * Feature layers (armor, held items, capes, elytra, ...) are skipped by handing the render loop an empty
+ * layer list.
+ */
+@Mixin(LivingEntityRenderer.class)
+public class MixinLivingEntityRenderLod {
+
+    @ModifyExpressionValue(method = "render",
+        at = @At(value = "FIELD", target = "Lnet/minecraft/client/render/entity/LivingEntityRenderer;features:Ljava/util/List;"),
+        require = 0)
+    private List<?> vulkanmodExtra$skipFeatures(List<?> features) {
+        return EntityRenderLod.shouldRenderFeatures() ? features : List.of();
+    }
+}
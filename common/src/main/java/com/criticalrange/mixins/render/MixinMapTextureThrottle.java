@@ -0,0 +1,32 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.map.MapTextureThrottle;
+import com.llamalad7.mixinextras.injector.ModifyExpressionValue;
+import org.objectweb.asm.Opcodes;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+
+/**
+ * Map texture upload throttling for Minecraft 1.21/1.21.1
+ * MapTexture.draw rebuilds and uploads the texture when its needsUpdate flag is set; while the
+ * throttle defers the upload the flag reads as false, so the update stays pending for a later frame.
+ * 1.21.2+ moved map textures to MapTextureManager.
+ */
+@Mixin(targets = "net.minecraft.client.render.MapRenderer$MapTexture")
+public class MixinMapTextureThrottle {
+
+    @Unique
+    private long vulkanmodExtra$lastUploadTick = MapTextureThrottle.NEVER_UPLOADED;
+
+    @ModifyExpressionValue(method = "draw",
+        at = @At(value = "FIELD", target = "Lnet/minecraft/client/render/MapRenderer$MapTexture;needsUpdate:Z", opcode = Opcodes.GETFIELD),
+        require = 0)
+    private boolean vulkanmodExtra$throttleUpload(boolean needsUpdate) {
+        if (!needsUpdate || !MapTextureThrottle.tryUpload(this.vulkanmodExtra$lastUploadTick)) {
+            return false;
+        }
+        this.vulkanmodExtra$lastUploadTick = MapTextureThrottle.getCurrentTick();
+        return true;
+    }
+}
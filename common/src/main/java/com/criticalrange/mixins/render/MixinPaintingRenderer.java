@@ -1,6 +1,9 @@
 package com.criticalrange.mixins.render;
 
 import com.criticalrange.VulkanModExtra;
+import com.criticalrange.optimization.entity.DecorationBaker;
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
 import net.minecraft.client.render.entity.PaintingEntityRenderer;
 import net.minecraft.entity.decoration.painting.PaintingEntity;
 import net.minecraft.client.util.math.MatrixStack;
@@ -17,11 +20,13 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 @Mixin(PaintingEntityRenderer.class)
 public class MixinPaintingRenderer {
 
+    private static final String RENDER_1_21_1 = "render(Lnet/minecraft/entity/decoration/painting/PaintingEntity;FFLnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/client/render/VertexConsumerProvider;I)V";
+
     /**
      * 1.21.1 entity-based render method - exact signature from javap analysis
      * Parameters: PaintingEntity, float, float, MatrixStack, VertexConsumerProvider, int
      */
-    @Inject(method = "render(Lnet/minecraft/entity/decoration/painting/PaintingEntity;FFLnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/client/render/VertexConsumerProvider;I)V",
+    @Inject(method = RENDER_1_21_1,
             at = @At("HEAD"), cancellable = true, require = 0)
     private void vulkanmodExtra$controlPaintingRendering1_21_1(CallbackInfo ci) {
         if (VulkanModExtra.CONFIG != null && !VulkanModExtra.CONFIG.renderSettings.painting) {
@@ -29,4 +34,17 @@ public class MixinPaintingRenderer {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * 1.21.1: static paintings are drawn from their baked vertices
+     */
+    @WrapMethod(method = RENDER_1_21_1, require = 0)
+    private void vulkanmodExtra$bakeStaticPainting(PaintingEntity entity, float yaw, float tickDelta, MatrixStack matrices,
+                                                   VertexConsumerProvider vertexConsumers, int light, Operation<Void> original) {
+        if (DecorationBaker.replay(entity, matrices, vertexConsumers, light)) {
+            return;
+        }
+        VertexConsumerProvider target = DecorationBaker.beginCapture(entity, matrices, vertexConsumers);
+        original.call(entity, yaw, tickDelta, matrices, target, light);
+        DecorationBaker.endCapture(target, matrices);
+    }
+}
@@ -0,0 +1,32 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.entity.SignTextCache;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import net.minecraft.block.entity.SignText;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.render.block.entity.SignBlockEntityRenderer;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.util.math.BlockPos;
+import org.spongepowered.asm.mixin.Mixin;
+
+/**
+ * Sign text mesh cache, Minecraft 1.21 to 1.21.8
+ * renderText lays out and draws one side of a sign; on a cache miss it runs once against an identity
+ * pose so the recorded glyph quads are in sign space. Hanging signs inherit this method.
+ */
+@Mixin(SignBlockEntityRenderer.class)
+public class MixinSignTextCache {
+
+    @WrapMethod(method = "renderText(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/entity/SignText;Lnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/client/render/VertexConsumerProvider;IIIZ)V",
+        require = 0)
+    private void vulkanmodExtra$cachedText(BlockPos pos, SignText signText, MatrixStack matrices,
+                                           VertexConsumerProvider vertexConsumers, int light, int lineHeight,
+                                           int lineWidth, boolean front, Operation<Void> original) {
+        if (!SignTextCache.render(this, signText, front, lineHeight, lineWidth, matrices, vertexConsumers, light,
+            (recordMatrices, recordProvider) -> original.call(pos, signText, recordMatrices, recordProvider, light,
+                lineHeight, lineWidth, front))) {
+            original.call(pos, signText, matrices, vertexConsumers, light, lineHeight, lineWidth, front);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.container.StaticContainerModelPlugin;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import com.llamalad7.mixinextras.sugar.Local;
+import net.minecraft.client.texture.atlas.AtlasLoader;
+import net.minecraft.client.texture.atlas.AtlasSource;
+import net.minecraft.util.Identifier;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+import java.util.List;
+
+/**
+ * Static container textures, Minecraft 1.21/1.21.1
+ * Adds the chest and shulker box entity textures to the block atlas sources while static containers are on
+ */
+@Mixin(AtlasLoader.class)
+public class MixinStaticContainerAtlas {
+
+    @WrapOperation(method = "of",
+        at = @At(value = "NEW", target = "(Ljava/util/List;)Lnet/minecraft/client/texture/atlas/AtlasLoader;"),
+        require = 0)
+    private static AtlasLoader vulkanmodExtra$addContainerTextures(List<AtlasSource> sources, Operation<AtlasLoader> original,
+                                                                   @Local(argsOnly = true) Identifier id) {
+        return original.call(StaticContainerModelPlugin.withContainerTextures(id, sources));
+    }
+}
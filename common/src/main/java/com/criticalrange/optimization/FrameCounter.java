@@ -0,0 +1,33 @@
+package com.criticalrange.optimization;
+
+/**
+ * Counts events per world frame and reports the total of the last completed frame
+ *
+ * Incremented from the render thread only; the reported value may be read from any thread.
+ */
+public final class FrameCounter {
+    private long frame = -1;
+    private int current = 0;
+    private volatile int last = 0;
+
+    public void increment() {
+        long frameIndex = FrameState.getFrameIndex();
+        if (frameIndex != frame) {
+            last = frameIndex - frame == 1 ? current : 0;
+            current = 0;
+            frame = frameIndex;
+        }
+        current++;
+    }
+
+    /**
+     * Events counted during the last completed frame
+     */
+    public int getLastFrame() {
+        long frameIndex = FrameState.getFrameIndex();
+        if (frame == frameIndex) {
+            return last;
+        }
+        return frame == frameIndex - 1 ? current : 0;
+    }
+}
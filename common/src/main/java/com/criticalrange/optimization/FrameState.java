@@ -0,0 +1,41 @@
+package com.criticalrange.optimization;
+
+import com.criticalrange.optimization.entity.BeaconBeamLimiter;
+import com.criticalrange.optimization.entity.EntityRenderLod;
+import com.criticalrange.optimization.entity.GlintShadowLimiter;
+import com.criticalrange.optimization.occlusion.OcclusionCuller;
+import com.criticalrange.optimization.sky.SkyVisibility;
+import net.minecraft.client.MinecraftClient;
+
+/**
+ * Per-frame state shared by the optimization subsystems
+ *
+ * {@link #beginFrame} is called once at the start of every world render, after the camera
+ * has been updated, so per-frame decisions are made once instead of in every hot render call.
+ */
+public final class FrameState {
+    // Written by the render thread only, read from any thread
+    private static volatile long frameIndex = 0;
+
+    private FrameState() {
+    }
+
+    /**
+     * Start a new world frame and refresh every per-frame decision
+     */
+    public static void beginFrame(MinecraftClient client) {
+        frameIndex++;
+        SkyVisibility.update(client);
+        OcclusionCuller.beginFrame(client);
+        BeaconBeamLimiter.beginFrame();
+        EntityRenderLod.beginFrame();
+        GlintShadowLimiter.beginFrame();
+    }
+
+    /**
+     * Index of the current world frame, increasing monotonically
+     */
+    public static long getFrameIndex() {
+        return frameIndex;
+    }
+}
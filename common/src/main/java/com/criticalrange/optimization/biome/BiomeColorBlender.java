@@ -0,0 +1,267 @@
+package com.criticalrange.optimization.biome;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.ConfigurationManager;
+import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.optimization.texture.ResourceGeneration;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.biome.ColorResolver;
+
+import java.util.Arrays;
+
+/**
+ * Blended biome colors, one chunk layer at a time
+ *
+ * The client world keeps a per-chunk cache of grass, foliage and water colors, but fills it one block
+ * at a time, and every fill averages the (2r+1)^2 biome colors around the block. This class computes
+ * the whole 16x16 layer of a chunk at once instead: the (16+2r)^2 biome colors under the layer are
+ * sampled once into a summed-area table, and each block's average is read from it with four lookups.
+ * The result is the same as vanilla's average, at a cost that no longer grows with the blend radius.
+ * The world's cache is then filled from the layer as vanilla asks for each block.
+ *
+ * Layers live in a small per-thread ring, since chunk meshes are built on several threads; a chunk's
+ * layers are built and read by the same mesh build. The world's cache is kept for as many chunks as
+ * the render distance holds, up to {@link #MAX_CACHED_CHUNKS}, and is only cleared when biome data,
+ * resources, the blend radius or the config change.
+ *
+ * A chunk arriving from the server only drops the layers of its own column and the columns next to it,
+ * whose blend window reaches into it. Resets are logged in a ring that each thread reads up to where
+ * it last checked; a thread that fell more than {@link #RESET_LOG} resets behind drops its layers.
+ */
+public final class BiomeColorBlender {
+    public static final long NO_STAMP = Long.MIN_VALUE;
+    // Below this a layer samples more biomes than the blocks usually read from it
+    private static final int MIN_LAYER_RADIUS = 2;
+    private static final int CACHED_LAYERS = 32;
+    private static final int MAX_CACHED_CHUNKS = 1024;
+    // A power of two
+    private static final int RESET_LOG = 256;
+
+    // Bumped whenever the whole color cache is cleared, so per-thread layers are rebuilt
+    private static volatile int epoch = 0;
+    // Columns reset one at a time; written on the client thread, published by the count
+    private static final long[] resetColumns = new long[RESET_LOG];
+    private static volatile int resetCount = 0;
+    private static final ThreadLocal<LayerCache> LAYERS = ThreadLocal.withInitial(LayerCache::new);
+    private static final ThreadLocal<BlockPos.Mutable> SAMPLE = ThreadLocal.withInitial(BlockPos.Mutable::new);
+
+    private BiomeColorBlender() {
+    }
+
+    /**
+     * Blend radius to use, or -1 when vanilla's own blending applies unchanged
+     */
+    public static int getRadius() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        if (config == null || config.detailSettings == null) {
+            return -1;
+        }
+        int vanillaRadius = MinecraftClient.getInstance().options.getBiomeBlendRadius().getValue();
+        int radius = Math.max(0, Math.min(vanillaRadius, config.detailSettings.biomeBlendRadius));
+        return config.detailSettings.biomeColorCache || radius < vanillaRadius ? radius : -1;
+    }
+
+    /**
+     * Blended color of a block, computed with the given radius
+     */
+    public static int getColor(World world, BlockPos pos, ColorResolver resolver, int radius) {
+        if (radius < MIN_LAYER_RADIUS || !VulkanModExtra.CONFIG.detailSettings.biomeColorCache) {
+            return blendBlock(world, pos, resolver, radius);
+        }
+        int chunkX = pos.getX() >> 4;
+        int chunkZ = pos.getZ() >> 4;
+        int[] layer = LAYERS.get().get(world, resolver, chunkX, pos.getY(), chunkZ, radius);
+        return layer[(pos.getZ() & 15) << 4 | pos.getX() & 15];
+    }
+
+    /**
+     * Stamp of everything the world's colors depend on besides biome data; the cache only needs
+     * clearing when it changes. {@link #NO_STAMP} while the cache is off: every reload clears it, as in vanilla.
+     */
+    public static long getColorStamp() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        if (config == null || config.detailSettings == null || !config.detailSettings.biomeColorCache) {
+            return NO_STAMP;
+        }
+        long stamp = ResourceGeneration.get();
+        stamp = stamp * 31 + ConfigurationManager.getConfigVersion();
+        return stamp * 31 + MinecraftClient.getInstance().options.getBiomeBlendRadius().getValue();
+    }
+
+    /**
+     * Called when the world's whole color cache is cleared
+     */
+    public static void invalidate() {
+        epoch++;
+    }
+
+    /**
+     * Called when one chunk's colors are cleared
+     */
+    public static void invalidate(ChunkPos chunkPos) {
+        int count = resetCount;
+        resetColumns[count & (RESET_LOG - 1)] = chunkPos.toLong();
+        resetCount = count + 1;
+    }
+
+    /**
+     * Number of chunks the world's color cache keeps
+     */
+    public static int getCachedChunks(int vanillaChunks) {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        if (config == null || config.detailSettings == null || !config.detailSettings.biomeColorCache) {
+            return vanillaChunks;
+        }
+        int viewDistance = MinecraftClient.getInstance().options.getClampedViewDistance();
+        int chunks = (viewDistance * 2 + 1) * (viewDistance * 2 + 1);
+        return Math.max(vanillaChunks, Math.min(MAX_CACHED_CHUNKS, chunks));
+    }
+
+    // Vanilla's per-block average
+    private static int blendBlock(World world, BlockPos pos, ColorResolver resolver, int radius) {
+        if (radius == 0) {
+            return resolver.getColor(world.getBiome(pos).value(), pos.getX(), pos.getZ());
+        }
+        BlockPos.Mutable sample = SAMPLE.get();
+        int red = 0;
+        int green = 0;
+        int blue = 0;
+        for (int z = pos.getZ() - radius; z <= pos.getZ() + radius; z++) {
+            for (int x = pos.getX() - radius; x <= pos.getX() + radius; x++) {
+                sample.set(x, pos.getY(), z);
+                int color = resolver.getColor(world.getBiome(sample).value(), x, z);
+                red += color >> 16 & 0xFF;
+                green += color >> 8 & 0xFF;
+                blue += color & 0xFF;
+            }
+        }
+        int count = (radius * 2 + 1) * (radius * 2 + 1);
+        return (red / count & 0xFF) << 16 | (green / count & 0xFF) << 8 | blue / count & 0xFF;
+    }
+
+    /**
+     * Ring of recently blended layers and the scratch space to blend them
+     */
+    private static final class LayerCache {
+        final World[] worlds = new World[CACHED_LAYERS];
+        final ColorResolver[] resolvers = new ColorResolver[CACHED_LAYERS];
+        final long[] columns = new long[CACHED_LAYERS];
+        final int[] ys = new int[CACHED_LAYERS];
+        final int[] radii = new int[CACHED_LAYERS];
+        final int[] epochs = new int[CACHED_LAYERS];
+        final int[][] colors = new int[CACHED_LAYERS][256];
+        int next = 0;
+        // Reset log position this thread has checked its layers up to
+        int checkedResets = resetCount;
+
+        final BlockPos.Mutable sample = new BlockPos.Mutable();
+        int[] sumRed = new int[0];
+        int[] sumGreen = new int[0];
+        int[] sumBlue = new int[0];
+
+        int[] get(World world, ColorResolver resolver, int chunkX, int y, int chunkZ, int radius) {
+            long column = ChunkPos.toLong(chunkX, chunkZ);
+            checkResets();
+            int currentEpoch = epoch;
+            for (int i = 0; i < CACHED_LAYERS; i++) {
+                if (worlds[i] == world && resolvers[i] == resolver && columns[i] == column && ys[i] == y
+                    && radii[i] == radius && epochs[i] == currentEpoch) {
+                    return colors[i];
+                }
+            }
+
+            int slot = next;
+            next = (next + 1) % CACHED_LAYERS;
+            blend(world, resolver, chunkX, y, chunkZ, radius, colors[slot]);
+            worlds[slot] = world;
+            resolvers[slot] = resolver;
+            columns[slot] = column;
+            ys[slot] = y;
+            radii[slot] = radius;
+            epochs[slot] = currentEpoch;
+            return colors[slot];
+        }
+
+        // Drop the layers whose blend window overlaps a column reset since the last check
+        private void checkResets() {
+            int count = resetCount;
+            if (count == checkedResets) {
+                return;
+            }
+            boolean overflow = count - checkedResets > RESET_LOG;
+            for (int r = checkedResets; !overflow && r != count; r++) {
+                long reset = resetColumns[r & (RESET_LOG - 1)];
+                int resetX = ChunkPos.getPackedX(reset);
+                int resetZ = ChunkPos.getPackedZ(reset);
+                for (int i = 0; i < CACHED_LAYERS; i++) {
+                    if (worlds[i] != null && Math.abs(ChunkPos.getPackedX(columns[i]) - resetX) <= 1
+                        && Math.abs(ChunkPos.getPackedZ(columns[i]) - resetZ) <= 1) {
+                        worlds[i] = null;
+                    }
+                }
+            }
+            // The writer may have lapped the entries read above
+            if (overflow || resetCount - checkedResets > RESET_LOG) {
+                Arrays.fill(worlds, null);
+            }
+            checkedResets = count;
+        }
+
+        private void blend(World world, ColorResolver resolver, int chunkX, int y, int chunkZ, int radius, int[] out) {
+            int size = 16 + radius * 2;
+            int stride = size + 1;
+            if (sumRed.length < stride * stride) {
+                sumRed = new int[stride * stride];
+                sumGreen = new int[stride * stride];
+                sumBlue = new int[stride * stride];
+            }
+            // Summed-area tables with a zero first row and column
+            Arrays.fill(sumRed, 0, stride, 0);
+            Arrays.fill(sumGreen, 0, stride, 0);
+            Arrays.fill(sumBlue, 0, stride, 0);
+
+            int originX = (chunkX << 4) - radius;
+            int originZ = (chunkZ << 4) - radius;
+            for (int z = 0; z < size; z++) {
+                int row = (z + 1) * stride;
+                sumRed[row] = 0;
+                sumGreen[row] = 0;
+                sumBlue[row] = 0;
+                int rowRed = 0;
+                int rowGreen = 0;
+                int rowBlue = 0;
+                for (int x = 0; x < size; x++) {
+                    sample.set(originX + x, y, originZ + z);
+                    int color = resolver.getColor(world.getBiome(sample).value(), originX + x, originZ + z);
+                    rowRed += color >> 16 & 0xFF;
+                    rowGreen += color >> 8 & 0xFF;
+                    rowBlue += color & 0xFF;
+                    int i = row + x + 1;
+                    sumRed[i] = sumRed[i - stride] + rowRed;
+                    sumGreen[i] = sumGreen[i - stride] + rowGreen;
+                    sumBlue[i] = sumBlue[i - stride] + rowBlue;
+                }
+            }
+
+            int window = radius * 2 + 1;
+            int count = window * window;
+            for (int z = 0; z < 16; z++) {
+                int top = z * stride;
+                int bottom = (z + window) * stride;
+                for (int x = 0; x < 16; x++) {
+                    int a = top + x;
+                    int b = top + x + window;
+                    int c = bottom + x;
+                    int d = bottom + x + window;
+                    int red = sumRed[d] - sumRed[b] - sumRed[c] + sumRed[a];
+                    int green = sumGreen[d] - sumGreen[b] - sumGreen[c] + sumGreen[a];
+                    int blue = sumBlue[d] - sumBlue[b] - sumBlue[c] + sumBlue[a];
+                    out[z << 4 | x] = (red / count & 0xFF) << 16 | (green / count & 0xFF) << 8 | blue / count & 0xFF;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.criticalrange.optimization.cloud;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.ConfigurationManager;
+import com.criticalrange.optimization.FrameState;
+
+/**
+ * Cloud stage control
+ *
+ * Applies the configured cloud height and cloud distance, and keeps the cloud mesh from being
+ * rebuilt more often than needed. Cloud distance is a percentage of the vanilla cloud radius;
+ * cloud height is an offset from the vanilla overworld cloud height of 192, so dimensions with
+ * their own cloud height keep their relative placement.
+ *
+ * Only the render thread touches the mutable state here.
+ */
+public final class CloudStage {
+    private static final float VANILLA_CLOUD_HEIGHT = 192.0F;
+
+    // Vanilla fancy clouds are built from tiles -3..4 around the camera cell, i.e. radius 4
+    public static final int VANILLA_TILE_RADIUS = 4;
+    private static final int MAX_TILE_RADIUS = 12;
+
+    // Sky color drift alone only rebuilds the mesh this often; cell changes always rebuild
+    private static final int COLOR_REBUILD_INTERVAL_FRAMES = 20;
+
+    private static int seenConfigVersion = -1;
+    private static long lastBuildFrame = Long.MIN_VALUE / 2;
+
+    private static long buildStartNanos = 0;
+    private static long meshBuilds = 0;
+    private static long totalBuildNanos = 0;
+    private static long lastBuildNanos = 0;
+    private static int lastVertexCount = 0;
+    private static long throttledColorRebuilds = 0;
+
+    private CloudStage() {
+    }
+
+    /**
+     * Apply the configured cloud height to the dimension's cloud height
+     */
+    public static float adjustCloudHeight(float vanillaHeight) {
+        if (Float.isNaN(vanillaHeight) || VulkanModExtra.CONFIG == null || VulkanModExtra.CONFIG.detailSettings == null) {
+            return vanillaHeight;
+        }
+        return vanillaHeight + (VulkanModExtra.CONFIG.detailSettings.cloudHeight - VANILLA_CLOUD_HEIGHT);
+    }
+
+    /**
+     * Cloud tile radius around the camera derived from the cloud distance percentage
+     */
+    public static int getTileRadius() {
+        if (VulkanModExtra.CONFIG == null || VulkanModExtra.CONFIG.detailSettings == null) {
+            return VANILLA_TILE_RADIUS;
+        }
+        int percent = VulkanModExtra.CONFIG.detailSettings.cloudDistance;
+        int radius = Math.round(VANILLA_TILE_RADIUS * percent / 100.0F);
+        return Math.max(1, Math.min(MAX_TILE_RADIUS, radius));
+    }
+
+    /**
+     * Whether the config changed since the last cloud frame, forcing a mesh rebuild
+     */
+    public static boolean consumeConfigChange() {
+        int version = ConfigurationManager.getConfigVersion();
+        if (version != seenConfigVersion) {
+            seenConfigVersion = version;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Filter the vanilla sky color distance check so color drift alone rebuilds the mesh at a limited rate
+     */
+    public static double throttleColorChange(double squaredColorDistance) {
+        if (FrameState.getFrameIndex() - lastBuildFrame < COLOR_REBUILD_INTERVAL_FRAMES && squaredColorDistance > 0.0) {
+            throttledColorRebuilds++;
+            return 0.0;
+        }
+        return squaredColorDistance;
+    }
+
+    /**
+     * Mark the start of a cloud mesh build
+     */
+    public static void beginMeshBuild() {
+        buildStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Mark the end of a cloud mesh build
+     */
+    public static void endMeshBuild(int vertexCount) {
+        lastBuildNanos = System.nanoTime() - buildStartNanos;
+        totalBuildNanos += lastBuildNanos;
+        lastVertexCount = vertexCount;
+        lastBuildFrame = FrameState.getFrameIndex();
+        meshBuilds++;
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        return String.format("Clouds: radius %d tiles, %d mesh builds (last %.3f ms, avg %.3f ms, %d vertices), %d color rebuilds throttled\n",
+            getTileRadius(), meshBuilds, lastBuildNanos / 1_000_000.0,
+            meshBuilds == 0 ? 0.0 : totalBuildNanos / 1_000_000.0 / meshBuilds,
+            lastVertexCount, throttledColorRebuilds);
+    }
+}
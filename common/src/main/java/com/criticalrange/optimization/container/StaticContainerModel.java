@@ -0,0 +1,42 @@
+package com.criticalrange.optimization.container;
+
+import net.fabricmc.fabric.api.renderer.v1.model.ForwardingBakedModel;
+import net.fabricmc.fabric.api.renderer.v1.render.RenderContext;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.client.texture.Sprite;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.BlockRenderView;
+
+import java.util.function.Supplier;
+
+/**
+ * Block state model of a chest or shulker box: the baked static container geometry, emitted only
+ * while the container at that position is closed. Particles keep coming from the vanilla model.
+ */
+final class StaticContainerModel extends ForwardingBakedModel {
+    private final BakedModel original;
+
+    StaticContainerModel(BakedModel original, BakedModel staticModel) {
+        this.original = original;
+        this.wrapped = staticModel;
+    }
+
+    @Override
+    public boolean isVanillaAdapter() {
+        return false;
+    }
+
+    @Override
+    public void emitBlockQuads(BlockRenderView blockView, BlockState state, BlockPos pos, Supplier<Random> randomSupplier, RenderContext context) {
+        if (StaticContainers.isStaticAt(pos)) {
+            super.emitBlockQuads(blockView, state, pos, randomSupplier, context);
+        }
+    }
+
+    @Override
+    public Sprite getParticleSprite() {
+        return original.getParticleSprite();
+    }
+}
@@ -0,0 +1,175 @@
+package com.criticalrange.optimization.container;
+
+import net.fabricmc.fabric.api.blockrenderlayer.v1.BlockRenderLayerMap;
+import net.fabricmc.fabric.api.client.model.loading.v1.ModelLoadingPlugin;
+import net.fabricmc.fabric.api.client.model.loading.v1.ModelModifier;
+import net.minecraft.block.Block;
+import net.minecraft.block.ShulkerBoxBlock;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.client.render.model.ModelRotation;
+import net.minecraft.client.texture.atlas.AtlasSource;
+import net.minecraft.client.texture.atlas.DirectoryAtlasSource;
+import net.minecraft.client.util.ModelIdentifier;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.DyeColor;
+import net.minecraft.util.Identifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Attaches the static container models to the chest, trapped chest, ender chest and shulker box
+ * block states after they are baked. The models live in this mod's namespace and sample the entity
+ * textures, which are added to the block atlas by {@link #withContainerTextures}. Models and textures are
+ * only loaded while the feature is switched on.
+ *
+ * Uses the 1.21/1.21.1 model loading hooks, so it is only registered on those versions.
+ */
+public final class StaticContainerModelPlugin implements ModelLoadingPlugin {
+    private static final String NAMESPACE = "vulkanmod-extra";
+    private static final Identifier BLOCK_ATLAS = Identifier.ofVanilla("blocks");
+
+    private int wrappedStates = 0;
+
+    /**
+     * Register the plugin and the cutout layer the shulker box shells need
+     */
+    public static void register() {
+        ModelLoadingPlugin.register(new StaticContainerModelPlugin());
+        List<Block> shulkerBoxes = new ArrayList<>();
+        for (Block block : Registries.BLOCK) {
+            if (block instanceof ShulkerBoxBlock) {
+                shulkerBoxes.add(block);
+            }
+        }
+        BlockRenderLayerMap.INSTANCE.putBlocks(RenderLayer.getCutout(), shulkerBoxes.toArray(new Block[0]));
+    }
+
+    @Override
+    public void onInitializeModelLoader(Context pluginContext) {
+        wrappedStates = 0;
+        StaticContainers.onModelsBaked(0);
+        if (!StaticContainers.isRequested()) {
+            return;
+        }
+        pluginContext.addModels(modelIds());
+        pluginContext.modifyModelAfterBake().register(this::wrap);
+    }
+
+    /**
+     * Block atlas sources with the chest and shulker box entity textures added while the feature is on
+     */
+    public static List<AtlasSource> withContainerTextures(Identifier atlasId, List<AtlasSource> sources) {
+        if (!BLOCK_ATLAS.equals(atlasId) || !StaticContainers.isRequested()) {
+            return sources;
+        }
+        List<AtlasSource> extended = new ArrayList<>(sources);
+        extended.add(new DirectoryAtlasSource("entity/chest", "entity/chest/"));
+        extended.add(new DirectoryAtlasSource("entity/shulker", "entity/shulker/"));
+        return extended;
+    }
+
+    private BakedModel wrap(BakedModel model, ModelModifier.AfterBake.Context context) {
+        ModelIdentifier id = context.topLevelId();
+        if (model == null || id == null || !"minecraft".equals(id.id().getNamespace())) {
+            return model;
+        }
+        Identifier staticModelId = getStaticModelId(id);
+        if (staticModelId == null) {
+            return model;
+        }
+
+        BakedModel staticModel = context.baker().bake(staticModelId, getRotation(id));
+        if (staticModel == null) {
+            return model;
+        }
+        StaticContainers.onModelsBaked(++wrappedStates);
+        return new StaticContainerModel(model, staticModel);
+    }
+
+    private static Identifier getStaticModelId(ModelIdentifier id) {
+        String path = id.id().getPath();
+        String type = getProperty(id.variant(), "type");
+        switch (path) {
+            case "chest":
+                return chestModel("normal", type);
+            case "trapped_chest":
+                return chestModel("trapped", type);
+            case "ender_chest":
+                return model("static_chest_ender");
+            case "shulker_box":
+                return model("static_shulker_box_default");
+            default:
+                break;
+        }
+        if (path.endsWith("_shulker_box")) {
+            DyeColor color = DyeColor.byName(path.substring(0, path.length() - "_shulker_box".length()), null);
+            return color != null ? model("static_shulker_box_" + color.getName()) : null;
+        }
+        return null;
+    }
+
+    private static Identifier chestModel(String texture, String type) {
+        if ("left".equals(type) || "right".equals(type)) {
+            return model("static_chest_" + texture + "_" + type);
+        }
+        return model("static_chest_" + texture);
+    }
+
+    /**
+     * Chest models face south like the chest renderer's model; shulker box models open upwards
+     */
+    private static ModelRotation getRotation(ModelIdentifier id) {
+        String facing = getProperty(id.variant(), "facing");
+        if (facing == null) {
+            return ModelRotation.X0_Y0;
+        }
+        if (id.id().getPath().endsWith("shulker_box")) {
+            return switch (facing) {
+                case "down" -> ModelRotation.X180_Y0;
+                case "north" -> ModelRotation.X90_Y0;
+                case "south" -> ModelRotation.X90_Y180;
+                case "west" -> ModelRotation.X90_Y270;
+                case "east" -> ModelRotation.X90_Y90;
+                default -> ModelRotation.X0_Y0;
+            };
+        }
+        return switch (facing) {
+            case "west" -> ModelRotation.X0_Y90;
+            case "north" -> ModelRotation.X0_Y180;
+            case "east" -> ModelRotation.X0_Y270;
+            default -> ModelRotation.X0_Y0;
+        };
+    }
+
+    // Property value from a "facing=north,type=single,waterlogged=false" variant string
+    private static String getProperty(String variant, String property) {
+        String prefix = property + "=";
+        for (String entry : variant.split(",")) {
+            if (entry.startsWith(prefix)) {
+                return entry.substring(prefix.length());
+            }
+        }
+        return null;
+    }
+
+    private static List<Identifier> modelIds() {
+        List<Identifier> ids = new ArrayList<>();
+        for (String texture : new String[] {"normal", "trapped"}) {
+            ids.add(model("static_chest_" + texture));
+            ids.add(model("static_chest_" + texture + "_left"));
+            ids.add(model("static_chest_" + texture + "_right"));
+        }
+        ids.add(model("static_chest_ender"));
+        ids.add(model("static_shulker_box_default"));
+        for (DyeColor color : DyeColor.values()) {
+            ids.add(model("static_shulker_box_" + color.getName()));
+        }
+        return ids;
+    }
+
+    private static Identifier model(String name) {
+        return Identifier.of(NAMESPACE, "block/" + name);
+    }
+}
@@ -0,0 +1,218 @@
+package com.criticalrange.optimization.container;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.optimization.FrameCounter;
+import com.criticalrange.optimization.FrameState;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.block.BlockRenderType;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.ChestBlockEntity;
+import net.minecraft.block.entity.EnderChestBlockEntity;
+import net.minecraft.block.entity.ShulkerBoxBlockEntity;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import java.time.LocalDate;
+import java.time.Month;
+
+/**
+ * Static chest and shulker box models
+ *
+ * Closed containers are drawn as block models inside the chunk mesh instead of through their block
+ * entity renderer every frame. A container whose lid starts to move becomes dynamic: its position is
+ * left out of the chunk mesh, its section is rebuilt and the block entity renderer takes over until
+ * the lid has been closed for a moment, after which the section is rebuilt with the model again.
+ *
+ * The dynamic set is read by chunk build threads, so it is replaced as a whole on every change;
+ * lids only start and stop moving a few times a second even in busy storage rooms.
+ */
+public final class StaticContainers {
+    // Frames a closed lid stays dynamic, so a quick close and reopen does not rebuild twice
+    private static final int CLOSE_DELAY_FRAMES = 10;
+    // Frames the block entity renderer keeps drawing after the section was scheduled for a rebuild with the model
+    private static final int RELEASE_FRAMES = 20;
+    private static final long NONE = Long.MIN_VALUE;
+
+    // The chest renderer swaps in its festive textures on these days; the baked models only have the regular ones
+    private static final boolean CHRISTMAS = isChristmas();
+
+    private static final FrameCounter STATIC_SKIPPED = new FrameCounter();
+
+    private static volatile boolean modelsReady = false;
+    private static volatile LongOpenHashSet dynamic = new LongOpenHashSet();
+    private static final Long2LongOpenHashMap CLOSED_AT = new Long2LongOpenHashMap();
+    private static final Long2LongOpenHashMap RELEASED_AT = new Long2LongOpenHashMap();
+    private static World cacheWorld = null;
+    private static long transitions = 0;
+
+    static {
+        CLOSED_AT.defaultReturnValue(NONE);
+        RELEASED_AT.defaultReturnValue(NONE);
+    }
+
+    private StaticContainers() {
+    }
+
+    /**
+     * Whether closed containers are drawn as part of the chunk mesh
+     */
+    public static boolean isEnabled() {
+        return modelsReady && isRequested();
+    }
+
+    /**
+     * Whether the static models and their textures are loaded; read on every resource reload, and
+     * switching the setting reloads resources
+     */
+    public static boolean isRequested() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return !CHRISTMAS && config != null && config.blockEntitySettings != null
+            && config.blockEntitySettings.staticContainers;
+    }
+
+    /**
+     * Render type for a chest, ender chest or shulker box block state
+     */
+    public static BlockRenderType getRenderType(BlockRenderType vanillaType) {
+        return isEnabled() ? BlockRenderType.MODEL : vanillaType;
+    }
+
+    /**
+     * Called by the model loader once the static models have been baked and attached to the block states
+     */
+    static void onModelsBaked(int wrappedStates) {
+        modelsReady = wrappedStates > 0;
+    }
+
+    /**
+     * Whether the chunk mesh should contain the static model at this position; called from chunk build threads
+     */
+    public static boolean isStaticAt(BlockPos pos) {
+        return !dynamic.contains(pos.asLong());
+    }
+
+    /**
+     * Whether the block entity renderer should draw the container this frame, tracking lid transitions
+     */
+    public static boolean shouldRenderBlockEntity(BlockEntity blockEntity) {
+        if (!isContainer(blockEntity) || !isEnabled()) {
+            return true;
+        }
+        validate(blockEntity.getWorld());
+
+        long pos = blockEntity.getPos().asLong();
+        long frame = FrameState.getFrameIndex();
+        boolean closed = isClosed(blockEntity);
+        if (dynamic.contains(pos)) {
+            if (!closed) {
+                CLOSED_AT.remove(pos);
+                return true;
+            }
+            long closedAt = CLOSED_AT.get(pos);
+            if (closedAt == NONE) {
+                CLOSED_AT.put(pos, frame);
+            } else if (frame - closedAt >= CLOSE_DELAY_FRAMES) {
+                CLOSED_AT.remove(pos);
+                RELEASED_AT.put(pos, frame);
+                setDynamic(blockEntity.getPos(), false);
+            }
+            return true;
+        }
+
+        if (!closed) {
+            RELEASED_AT.remove(pos);
+            setDynamic(blockEntity.getPos(), true);
+            return true;
+        }
+
+        long releasedAt = RELEASED_AT.get(pos);
+        if (releasedAt != NONE) {
+            if (frame - releasedAt < RELEASE_FRAMES) {
+                return true;
+            }
+            RELEASED_AT.remove(pos);
+        }
+        STATIC_SKIPPED.increment();
+        return false;
+    }
+
+    /**
+     * A lid open event arrived; take the container out of the chunk mesh before the lid starts to move
+     */
+    public static void onLidEvent(BlockEntity blockEntity, int viewerCount) {
+        World world = blockEntity.getWorld();
+        if (viewerCount <= 0 || world == null || !world.isClient || !isEnabled()) {
+            return;
+        }
+        validate(world);
+        if (!dynamic.contains(blockEntity.getPos().asLong())) {
+            RELEASED_AT.remove(blockEntity.getPos().asLong());
+            setDynamic(blockEntity.getPos(), true);
+        }
+    }
+
+    /**
+     * Containers left to the chunk mesh during the last completed frame
+     */
+    public static int getStaticLastFrame() {
+        return STATIC_SKIPPED.getLastFrame();
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        if (!modelsReady) {
+            return "Static Containers: models not loaded\n";
+        }
+        return String.format("Static Containers: %s, %d drawn from the chunk mesh last frame, %d animating, %d lid transitions\n",
+            isEnabled() ? "on" : "off", getStaticLastFrame(), dynamic.size(), transitions);
+    }
+
+    private static boolean isContainer(BlockEntity blockEntity) {
+        return blockEntity instanceof ChestBlockEntity || blockEntity instanceof EnderChestBlockEntity
+            || blockEntity instanceof ShulkerBoxBlockEntity;
+    }
+
+    private static boolean isClosed(BlockEntity blockEntity) {
+        if (blockEntity instanceof ShulkerBoxBlockEntity shulkerBox) {
+            return shulkerBox.getAnimationStage() == ShulkerBoxBlockEntity.AnimationStage.CLOSED;
+        }
+        if (blockEntity instanceof ChestBlockEntity chest) {
+            return chest.getAnimationProgress(0.0F) == 0.0F && chest.getAnimationProgress(1.0F) == 0.0F;
+        }
+        if (blockEntity instanceof EnderChestBlockEntity enderChest) {
+            return enderChest.getAnimationProgress(0.0F) == 0.0F && enderChest.getAnimationProgress(1.0F) == 0.0F;
+        }
+        return true;
+    }
+
+    private static void setDynamic(BlockPos pos, boolean animating) {
+        LongOpenHashSet updated = new LongOpenHashSet(dynamic);
+        if (animating ? updated.add(pos.asLong()) : updated.remove(pos.asLong())) {
+            dynamic = updated;
+            transitions++;
+            MinecraftClient client = MinecraftClient.getInstance();
+            if (client.worldRenderer != null) {
+                client.worldRenderer.scheduleBlockRenders(pos.getX(), pos.getY(), pos.getZ(), pos.getX(), pos.getY(), pos.getZ());
+            }
+        }
+    }
+
+    private static void validate(World world) {
+        if (world != cacheWorld) {
+            cacheWorld = world;
+            dynamic = new LongOpenHashSet();
+            CLOSED_AT.clear();
+            RELEASED_AT.clear();
+        }
+    }
+
+    private static boolean isChristmas() {
+        LocalDate today = LocalDate.now();
+        return today.getMonth() == Month.DECEMBER && today.getDayOfMonth() >= 24 && today.getDayOfMonth() <= 26;
+    }
+}
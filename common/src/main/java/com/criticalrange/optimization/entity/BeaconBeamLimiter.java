@@ -0,0 +1,108 @@
+package com.criticalrange.optimization.entity;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.optimization.FrameCounter;
+import net.minecraft.block.entity.BeaconBlockEntity;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.Arrays;
+
+/**
+ * Beacon beam height and visible beam cap
+ *
+ * The cap keeps the nearest beacons: every beacon that reaches the renderer records its distance,
+ * and at the start of the next frame the distance of the N-th nearest one becomes the cut-off.
+ * Beacons do not move, so a decision one frame old is as good as a fresh one and no sorting
+ * happens while rendering.
+ *
+ * Only the render thread calls into this class.
+ */
+public final class BeaconBeamLimiter {
+    // Vanilla passes 1024 (2048 on 1.21.9+) as the height of the open-ended top segment
+    private static final int TOP_SEGMENT_MIN_HEIGHT = 256;
+    private static final int MIN_HEIGHT = 32;
+    private static final int MAX_HEIGHT = 512;
+
+    private static final FrameCounter CULLED = new FrameCounter();
+
+    private static double[] distances = new double[64];
+    private static int count = 0;
+    private static double maxDistanceSq = Double.POSITIVE_INFINITY;
+
+    private BeaconBeamLimiter() {
+    }
+
+    /**
+     * Height to draw a beam segment with; only the open-ended top segment is clamped,
+     * lower segments end at a stained glass block
+     */
+    public static int clampHeight(int height) {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        if (height < TOP_SEGMENT_MIN_HEIGHT || config == null || config.renderSettings == null) {
+            return height;
+        }
+        return Math.max(MIN_HEIGHT, Math.min(MAX_HEIGHT, config.renderSettings.beaconBeamHeight));
+    }
+
+    /**
+     * Whether a beacon that passed every other check is among the nearest beams allowed this frame
+     */
+    public static boolean shouldRenderBeam(BlockEntity blockEntity, Vec3d cameraPos) {
+        int maxBeams = getMaxBeams();
+        if (maxBeams <= 0 || !(blockEntity instanceof BeaconBlockEntity)) {
+            return true;
+        }
+
+        BlockPos pos = blockEntity.getPos();
+        double dx = pos.getX() + 0.5 - cameraPos.x;
+        double dz = pos.getZ() + 0.5 - cameraPos.z;
+        // Beams are vertical, so only the horizontal distance matters
+        double distanceSq = dx * dx + dz * dz;
+        if (count == distances.length) {
+            distances = Arrays.copyOf(distances, count * 2);
+        }
+        distances[count++] = distanceSq;
+
+        if (distanceSq <= maxDistanceSq) {
+            return true;
+        }
+        CULLED.increment();
+        return false;
+    }
+
+    /**
+     * Pick the cut-off distance for this frame from the beacons seen during the last one
+     */
+    public static void beginFrame() {
+        int maxBeams = getMaxBeams();
+        if (maxBeams <= 0 || count <= maxBeams) {
+            maxDistanceSq = Double.POSITIVE_INFINITY;
+        } else {
+            Arrays.sort(distances, 0, count);
+            maxDistanceSq = distances[maxBeams - 1];
+        }
+        count = 0;
+    }
+
+    /**
+     * Beacon beams dropped by the visible beam cap during the last completed frame
+     */
+    public static int getCulledLastFrame() {
+        return CULLED.getLastFrame();
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        return String.format("Beacon Beams: %d beams over the visible cap last frame\n", getCulledLastFrame());
+    }
+
+    private static int getMaxBeams() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return config != null && config.renderSettings != null ? config.renderSettings.maxBeaconBeams : 0;
+    }
+}
@@ -0,0 +1,144 @@
+package com.criticalrange.optimization.entity;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.ConfigurationManager;
+import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.optimization.FrameCounter;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.BlockEntityType;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * Per-block-entity-type render distance
+ *
+ * Vanilla renders most block entities up to 64 blocks. Block entity types are grouped into the
+ * categories of the block entity settings; any other type can be limited through the table keyed
+ * by block entity id. As with entities, the squared limit is cached on the type and recomputed when
+ * the config changes.
+ *
+ * Only the render thread calls into this class.
+ */
+public final class BlockEntityRenderDistance {
+    private static final FrameCounter CULLED = new FrameCounter();
+
+    private BlockEntityRenderDistance() {
+    }
+
+    /**
+     * Whether the block entity is farther from the camera than its type's render distance, or its type is switched off
+     */
+    public static boolean isBeyondDistance(BlockEntity blockEntity, Vec3d cameraPos) {
+        double maxDistanceSq = getMaxDistanceSq(blockEntity.getType());
+        if (maxDistanceSq == 0.0) {
+            return false;
+        }
+        if (maxDistanceSq < 0.0) {
+            CULLED.increment();
+            return true;
+        }
+        BlockPos pos = blockEntity.getPos();
+        double dx = pos.getX() + 0.5 - cameraPos.x;
+        double dy = pos.getY() + 0.5 - cameraPos.y;
+        double dz = pos.getZ() + 0.5 - cameraPos.z;
+        if (dx * dx + dy * dy + dz * dz <= maxDistanceSq) {
+            return false;
+        }
+        CULLED.increment();
+        return true;
+    }
+
+    /**
+     * Squared render distance limit for a block entity type, 0 when the vanilla distance applies
+     * and {@link RenderDistanceHolder#HIDDEN} when the type is switched off
+     */
+    public static double getMaxDistanceSq(BlockEntityType<?> type) {
+        RenderDistanceHolder holder = (RenderDistanceHolder) type;
+        int configVersion = ConfigurationManager.getConfigVersion();
+        if (holder.vulkanmodExtra$getDistanceVersion() != configVersion) {
+            int distance = resolveDistance(type);
+            holder.vulkanmodExtra$setMaxDistance(configVersion, distance < 0 ? RenderDistanceHolder.HIDDEN : (double) distance * distance);
+        }
+        return holder.vulkanmodExtra$getMaxDistanceSq();
+    }
+
+    /**
+     * Block entities culled by type distance during the last completed frame
+     */
+    public static int getCulledLastFrame() {
+        return CULLED.getLastFrame();
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        return String.format("Block Entity Render Distance: %s, %d block entities culled last frame\n",
+            isEnabled() ? "Enabled" : "Disabled", getCulledLastFrame());
+    }
+
+    private static boolean isEnabled() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return config != null && config.blockEntitySettings != null && config.blockEntitySettings.distanceCulling;
+    }
+
+    // Distance in blocks, 0 for vanilla, -1 when the type is switched off entirely
+    private static int resolveDistance(BlockEntityType<?> type) {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        Identifier id = Registries.BLOCK_ENTITY_TYPE.getId(type);
+        if (config == null || id == null) {
+            return 0;
+        }
+
+        // On/off toggles from the render settings win over any distance
+        boolean vanillaType = "minecraft".equals(id.getNamespace());
+        if (vanillaType && config.renderSettings != null
+            && (!config.renderSettings.piston && "piston".equals(id.getPath())
+                || !config.renderSettings.beaconBeam && "beacon".equals(id.getPath()))) {
+            return -1;
+        }
+
+        // The beam distance applies without the distance culling master toggle, like the beam toggle above
+        if (vanillaType && config.renderSettings != null && config.renderSettings.beaconBeamDistance > 0
+            && "beacon".equals(id.getPath())) {
+            int categoryDistance = isEnabled() ? config.blockEntitySettings.beacon : 0;
+            int beamDistance = config.renderSettings.beaconBeamDistance;
+            return categoryDistance > 0 ? Math.min(categoryDistance, beamDistance) : beamDistance;
+        }
+
+        if (!isEnabled()) {
+            return 0;
+        }
+        VulkanModExtraConfig.BlockEntitySettings settings = config.blockEntitySettings;
+        Integer configured = settings.otherBlockEntities.get(id.toString());
+        if (configured == null && vanillaType) {
+            configured = settings.otherBlockEntities.get(id.getPath());
+        }
+        if (configured != null) {
+            return Math.max(0, configured);
+        }
+        if (!vanillaType) {
+            return 0;
+        }
+
+        return switch (id.getPath()) {
+            case "chest", "trapped_chest", "ender_chest" -> settings.chest;
+            case "shulker_box" -> settings.shulkerBox;
+            case "sign", "hanging_sign" -> settings.sign;
+            case "banner" -> settings.banner;
+            case "skull" -> settings.skull;
+            case "bed" -> settings.bed;
+            case "bell" -> settings.bell;
+            case "campfire" -> settings.campfire;
+            case "lectern", "enchanting_table" -> settings.lectern;
+            case "decorated_pot", "brushable_block" -> settings.decoratedPot;
+            case "mob_spawner", "trial_spawner", "vault" -> settings.spawner;
+            case "conduit" -> settings.conduit;
+            case "beacon" -> settings.beacon;
+            case "end_portal", "end_gateway" -> settings.endPortal;
+            default -> 0;
+        };
+    }
+}
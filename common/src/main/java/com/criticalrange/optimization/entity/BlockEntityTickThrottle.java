@@ -0,0 +1,155 @@
+package com.criticalrange.optimization.entity;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.BlockEntityType;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Client block entity tick throttling
+ *
+ * Client tickers only drive visuals: campfire smoke, enchanting table books, conduit and spawner
+ * rotation, bell swings, beacon beam segments. Block entities past the half and quarter rate
+ * distances tick every 2nd and 4th tick, staggered by position so neighbours do not tick together.
+ * Tickers whose main work is spawning particles (campfires, conduits, spawners, trial spawners,
+ * vaults) do not tick at all past the particle distance. Pistons and lidded containers always tick:
+ * pistons move their block and push entities on the client, and a throttled lid animates at a
+ * fraction of its speed.
+ *
+ * The tick index is the world time, sampled together with the camera position on the first ticker
+ * of every world tick. Only the client thread calls into this class.
+ */
+public final class BlockEntityTickThrottle {
+    private static long tick = Long.MIN_VALUE;
+    private static boolean enabled = false;
+    private static double cameraX;
+    private static double cameraY;
+    private static double cameraZ;
+    private static double halfRateDistanceSq;
+    private static double quarterRateDistanceSq;
+    private static double particleDistanceSq;
+
+    // Ticks run and ticks skipped per type during the current and the last completed world tick
+    private static Reference2IntOpenHashMap<BlockEntityType<?>> currentTicked = new Reference2IntOpenHashMap<>();
+    private static Reference2IntOpenHashMap<BlockEntityType<?>> currentSkipped = new Reference2IntOpenHashMap<>();
+    private static Reference2IntOpenHashMap<BlockEntityType<?>> lastTicked = new Reference2IntOpenHashMap<>();
+    private static Reference2IntOpenHashMap<BlockEntityType<?>> lastSkipped = new Reference2IntOpenHashMap<>();
+
+    private BlockEntityTickThrottle() {
+    }
+
+    /**
+     * Whether a block entity ticker runs this tick; server worlds are never throttled
+     */
+    public static boolean shouldTick(World world, BlockPos pos, BlockEntity blockEntity) {
+        if (!world.isClient()) {
+            return true;
+        }
+        long time = world.getTime();
+        if (time != tick) {
+            beginTick(time);
+        }
+        if (!enabled) {
+            return true;
+        }
+
+        BlockEntityType<?> type = blockEntity.getType();
+        if (isExempt(type)) {
+            currentTicked.addTo(type, 1);
+            return true;
+        }
+        double dx = pos.getX() + 0.5 - cameraX;
+        double dy = pos.getY() + 0.5 - cameraY;
+        double dz = pos.getZ() + 0.5 - cameraZ;
+        double distanceSq = dx * dx + dy * dy + dz * dz;
+
+        int interval = 1;
+        if (particleDistanceSq > 0.0 && distanceSq > particleDistanceSq && isParticleEmitter(type)) {
+            interval = 0;
+        } else if (quarterRateDistanceSq > 0.0 && distanceSq > quarterRateDistanceSq) {
+            interval = 4;
+        } else if (halfRateDistanceSq > 0.0 && distanceSq > halfRateDistanceSq) {
+            interval = 2;
+        }
+
+        if (interval == 0 || interval > 1 && ((time + pos.hashCode()) & (interval - 1)) != 0) {
+            currentSkipped.addTo(type, 1);
+            return false;
+        }
+        currentTicked.addTo(type, 1);
+        return true;
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        StringBuilder sb = new StringBuilder("Block Entity Ticks (run/skipped last tick):");
+        List<BlockEntityType<?>> types = new ArrayList<>(lastTicked.keySet());
+        for (BlockEntityType<?> type : lastSkipped.keySet()) {
+            if (!lastTicked.containsKey(type)) {
+                types.add(type);
+            }
+        }
+        if (types.isEmpty()) {
+            sb.append(" none");
+        }
+        for (BlockEntityType<?> type : types) {
+            sb.append(String.format(" %s %d/%d", Registries.BLOCK_ENTITY_TYPE.getId(type),
+                lastTicked.getInt(type), lastSkipped.getInt(type)));
+        }
+        return sb.append('\n').toString();
+    }
+
+    private static void beginTick(long time) {
+        tick = time;
+        Reference2IntOpenHashMap<BlockEntityType<?>> ticked = lastTicked;
+        lastTicked = currentTicked;
+        currentTicked = ticked;
+        currentTicked.clear();
+        Reference2IntOpenHashMap<BlockEntityType<?>> skipped = lastSkipped;
+        lastSkipped = currentSkipped;
+        currentSkipped = skipped;
+        currentSkipped.clear();
+
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        MinecraftClient client = MinecraftClient.getInstance();
+        enabled = config != null && config.blockEntitySettings != null && config.blockEntitySettings.tickThrottling
+            && client.gameRenderer != null;
+        if (!enabled) {
+            return;
+        }
+
+        VulkanModExtraConfig.BlockEntitySettings settings = config.blockEntitySettings;
+        halfRateDistanceSq = squared(settings.halfRateTickDistance);
+        quarterRateDistanceSq = squared(settings.quarterRateTickDistance);
+        particleDistanceSq = squared(settings.particleTickDistance);
+        Vec3d cameraPos = client.gameRenderer.getCamera().getPos();
+        cameraX = cameraPos.x;
+        cameraY = cameraPos.y;
+        cameraZ = cameraPos.z;
+    }
+
+    private static boolean isExempt(BlockEntityType<?> type) {
+        return type == BlockEntityType.PISTON || type == BlockEntityType.CHEST || type == BlockEntityType.TRAPPED_CHEST
+            || type == BlockEntityType.ENDER_CHEST || type == BlockEntityType.SHULKER_BOX;
+    }
+
+    private static boolean isParticleEmitter(BlockEntityType<?> type) {
+        return type == BlockEntityType.CAMPFIRE || type == BlockEntityType.CONDUIT || type == BlockEntityType.MOB_SPAWNER
+            || type == BlockEntityType.TRIAL_SPAWNER || type == BlockEntityType.VAULT;
+    }
+
+    private static double squared(int distance) {
+        return (double) distance * distance;
+    }
+}
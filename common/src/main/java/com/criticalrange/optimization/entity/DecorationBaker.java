@@ -0,0 +1,320 @@
+package com.criticalrange.optimization.entity;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.ConfigurationManager;
+import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.optimization.FrameCounter;
+import com.criticalrange.optimization.FrameState;
+import com.criticalrange.optimization.texture.ResourceGeneration;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.component.DataComponentTypes;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EquipmentSlot;
+import net.minecraft.entity.decoration.ArmorStandEntity;
+import net.minecraft.entity.decoration.ItemFrameEntity;
+import net.minecraft.entity.decoration.painting.PaintingEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.World;
+import org.joml.Matrix4f;
+
+/**
+ * Static decoration baker
+ *
+ * Paintings, item frames and armor stands that have not changed for the configured number of ticks
+ * are rendered once more through a recording provider, and from then on their recorded vertices are
+ * written straight to the vertex consumers instead of running the model, item and sprite code again.
+ * The state that decides what a decoration looks like (position, facing, variant, held item, pose,
+ * equipment, light) is folded into a key every frame; when it changes the decoration starts counting
+ * again and every bake in its chunk section is dropped, so the section is re-baked as a whole.
+ *
+ * Replayed vertices go through the same vertex consumer provider as the entities around them, so
+ * decorations that share a render layer still end up in one draw.
+ *
+ * Only the render thread calls into this class.
+ */
+public final class DecorationBaker {
+    private static final long NOT_STATIC = Long.MIN_VALUE;
+    // Armor stands wobble for 5 ticks after being hit
+    private static final long HIT_WOBBLE_TICKS = 5;
+    // Re-record now and then so neighbour light and late-loading textures catch up
+    private static final long REBAKE_TICKS = 200;
+    // Decorations not rendered for this many frames are forgotten
+    private static final long SWEEP_FRAMES = 600;
+    private static final int MAX_MESH_VERTICES = 16384;
+    private static final int MAX_BAKED_VERTICES = 262144;
+    private static final EquipmentSlot[] SLOTS = EquipmentSlot.values();
+
+    private static final FrameCounter REPLAYED = new FrameCounter();
+    private static final DecorationRecorder RECORDER = new DecorationRecorder(MAX_MESH_VERTICES);
+
+    private static final Long2ObjectOpenHashMap<Section> SECTIONS = new Long2ObjectOpenHashMap<>();
+    private static World cacheWorld = null;
+    private static int cacheConfigVersion = -1;
+    private static int cacheResourceGeneration = -1;
+    private static long lastSweepFrame = 0;
+    private static int bakedVertices = 0;
+    private static long bakes = 0;
+    private static long invalidations = 0;
+
+    // Decoration picked by the last replay attempt to be recorded by the following render
+    private static Decoration captureTarget = null;
+    private static Entity captureEntity = null;
+
+    private DecorationBaker() {
+    }
+
+    /**
+     * Draw the entity from its baked vertices; returns false when the renderer has to run
+     */
+    public static boolean replay(Entity entity, MatrixStack matrices, VertexConsumerProvider provider, int light) {
+        captureTarget = null;
+        captureEntity = null;
+        if (RECORDER.isRecording()) {
+            // A render threw while recording; decorations are never rendered inside each other
+            RECORDER.abort();
+        }
+        VulkanModExtraConfig.RenderSettings settings = getSettings();
+        if (settings == null || !settings.staticDecorationBaking) {
+            return false;
+        }
+
+        World world = entity.getWorld();
+        validate(world);
+        long key = stateKey(entity, world, light);
+        if (key == NOT_STATIC) {
+            return false;
+        }
+
+        long frame = FrameState.getFrameIndex();
+        long tick = world.getTime();
+        long sectionKey = ChunkSectionPos.asLong(
+            ChunkSectionPos.getSectionCoord(entity.getBlockX()),
+            ChunkSectionPos.getSectionCoord(entity.getBlockY()),
+            ChunkSectionPos.getSectionCoord(entity.getBlockZ()));
+        Section section = SECTIONS.get(sectionKey);
+        if (section == null) {
+            section = new Section();
+            SECTIONS.put(sectionKey, section);
+        }
+        Decoration decoration = section.decorations.get(entity.getId());
+        if (decoration == null) {
+            decoration = new Decoration(key, tick);
+            section.decorations.put(entity.getId(), decoration);
+        }
+        decoration.lastFrame = frame;
+        sweep(frame);
+
+        if (decoration.key != key) {
+            decoration.key = key;
+            decoration.stableSince = tick;
+            if (section.dropMeshes()) {
+                invalidations++;
+            }
+            return false;
+        }
+        if (tick - decoration.stableSince < Math.max(1, settings.staticDecorationTicks)) {
+            return false;
+        }
+
+        Matrix4f pose = matrices.peek().getPositionMatrix();
+        DecorationMesh mesh = decoration.mesh;
+        if (mesh == null || tick - mesh.bakedAt >= REBAKE_TICKS || tick < mesh.bakedAt || !mesh.matches(pose)) {
+            if (bakedVertices < MAX_BAKED_VERTICES) {
+                captureTarget = decoration;
+                captureEntity = entity;
+            }
+            return false;
+        }
+
+        mesh.draw(provider, pose);
+        REPLAYED.increment();
+        return true;
+    }
+
+    /**
+     * Provider the renderer should draw into: a recording wrapper when the last replay asked for a bake
+     */
+    public static VertexConsumerProvider beginCapture(Entity entity, MatrixStack matrices, VertexConsumerProvider provider) {
+        if (captureTarget == null || captureEntity != entity || RECORDER.isRecording()) {
+            return provider;
+        }
+        RECORDER.begin(provider, matrices.peek().getPositionMatrix());
+        return RECORDER;
+    }
+
+    /**
+     * Finish a capture started by {@link #beginCapture} and store the recorded mesh
+     */
+    public static void endCapture(VertexConsumerProvider provider, MatrixStack matrices) {
+        if (provider != RECORDER) {
+            return;
+        }
+        Decoration decoration = captureTarget;
+        captureTarget = null;
+        captureEntity = null;
+        DecorationMesh mesh = RECORDER.finish(matrices.peek().getPositionMatrix(), cacheWorld.getTime());
+        if (mesh != null) {
+            decoration.setMesh(mesh);
+            bakes++;
+        }
+    }
+
+    /**
+     * Decorations drawn from baked vertices during the last completed frame
+     */
+    public static int getReplayedLastFrame() {
+        return REPLAYED.getLastFrame();
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        return String.format("Static Decorations: %d replayed last frame, %d vertices baked in %d sections, %d bakes, %d section invalidations\n",
+            getReplayedLastFrame(), bakedVertices, SECTIONS.size(), bakes, invalidations);
+    }
+
+    private static void validate(World world) {
+        int configVersion = ConfigurationManager.getConfigVersion();
+        int resourceGeneration = ResourceGeneration.get();
+        if (world != cacheWorld || configVersion != cacheConfigVersion || resourceGeneration != cacheResourceGeneration) {
+            SECTIONS.clear();
+            bakedVertices = 0;
+            cacheWorld = world;
+            cacheConfigVersion = configVersion;
+            cacheResourceGeneration = resourceGeneration;
+        }
+    }
+
+    private static void sweep(long frame) {
+        if (frame - lastSweepFrame < SWEEP_FRAMES) {
+            return;
+        }
+        lastSweepFrame = frame;
+        ObjectIterator<Section> sections = SECTIONS.values().iterator();
+        while (sections.hasNext()) {
+            Section section = sections.next();
+            ObjectIterator<Decoration> decorations = section.decorations.values().iterator();
+            while (decorations.hasNext()) {
+                Decoration decoration = decorations.next();
+                if (frame - decoration.lastFrame >= SWEEP_FRAMES) {
+                    decoration.setMesh(null);
+                    decorations.remove();
+                }
+            }
+            if (section.decorations.isEmpty()) {
+                sections.remove();
+            }
+        }
+    }
+
+    // Everything that changes how the decoration is drawn, or NOT_STATIC when it cannot be baked at all
+    private static long stateKey(Entity entity, World world, int light) {
+        // Outlines go to a separate buffer and name tags depend on the crosshair
+        if (entity.isGlowing() || entity.hasCustomName()
+            || entity.getX() != entity.prevX || entity.getY() != entity.prevY || entity.getZ() != entity.prevZ
+            || entity.getYaw() != entity.prevYaw) {
+            return NOT_STATIC;
+        }
+
+        long key = mix(Double.doubleToLongBits(entity.getX()), Double.doubleToLongBits(entity.getY()));
+        key = mix(key, Double.doubleToLongBits(entity.getZ()));
+        key = mix(key, Float.floatToIntBits(entity.getYaw()));
+        key = mix(key, light);
+        key = mix(key, entity.isInvisible() ? 1 : 0);
+
+        if (entity instanceof PaintingEntity painting) {
+            key = mix(key, painting.getHorizontalFacing().ordinal());
+            return mix(key, System.identityHashCode(painting.getVariant()));
+        }
+
+        if (entity instanceof ItemFrameEntity frame) {
+            ItemStack stack = frame.getHeldItemStack();
+            // Maps redraw from a live texture; compasses and clocks pick their model every frame
+            if (stack.contains(DataComponentTypes.MAP_ID) || stack.contains(DataComponentTypes.CUSTOM_NAME)
+                || stack.isOf(Items.COMPASS) || stack.isOf(Items.RECOVERY_COMPASS) || stack.isOf(Items.CLOCK)) {
+                return NOT_STATIC;
+            }
+            key = mix(key, frame.getHorizontalFacing().ordinal());
+            key = mix(key, frame.getRotation());
+            key = mix(key, System.identityHashCode(stack));
+            return mix(key, ItemFrameLod.isBeyondLodDistance(frame) ? 1 : 0);
+        }
+
+        if (entity instanceof ArmorStandEntity armorStand) {
+            if (armorStand.hurtTime > 0 || world.getTime() - armorStand.lastHitTime < HIT_WOBBLE_TICKS
+                || armorStand.bodyYaw != armorStand.prevBodyYaw) {
+                return NOT_STATIC;
+            }
+            key = mix(key, Float.floatToIntBits(armorStand.bodyYaw));
+            int flags = (armorStand.isSmall() ? 1 : 0) | (armorStand.shouldShowArms() ? 2 : 0)
+                | (armorStand.shouldHideBasePlate() ? 4 : 0) | (armorStand.isMarker() ? 8 : 0);
+            key = mix(key, flags);
+            key = mix(key, System.identityHashCode(armorStand.getHeadRotation()));
+            key = mix(key, System.identityHashCode(armorStand.getBodyRotation()));
+            key = mix(key, System.identityHashCode(armorStand.getLeftArmRotation()));
+            key = mix(key, System.identityHashCode(armorStand.getRightArmRotation()));
+            key = mix(key, System.identityHashCode(armorStand.getLeftLegRotation()));
+            key = mix(key, System.identityHashCode(armorStand.getRightLegRotation()));
+            for (EquipmentSlot slot : SLOTS) {
+                key = mix(key, System.identityHashCode(armorStand.getEquippedStack(slot)));
+            }
+            return key;
+        }
+
+        return NOT_STATIC;
+    }
+
+    private static long mix(long key, long value) {
+        long h = (key ^ value) * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        return h == NOT_STATIC ? h + 1 : h;
+    }
+
+    private static VulkanModExtraConfig.RenderSettings getSettings() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return config != null ? config.renderSettings : null;
+    }
+
+    private static final class Section {
+        private final Int2ObjectOpenHashMap<Decoration> decorations = new Int2ObjectOpenHashMap<>();
+
+        // Drop every bake in the section; true when there was something to drop
+        private boolean dropMeshes() {
+            boolean dropped = false;
+            for (Decoration decoration : decorations.values()) {
+                dropped |= decoration.mesh != null;
+                decoration.setMesh(null);
+            }
+            return dropped;
+        }
+    }
+
+    private static final class Decoration {
+        private long key;
+        private long stableSince;
+        private long lastFrame;
+        private DecorationMesh mesh;
+
+        private Decoration(long key, long stableSince) {
+            this.key = key;
+            this.stableSince = stableSince;
+        }
+
+        private void setMesh(DecorationMesh mesh) {
+            if (this.mesh != null) {
+                bakedVertices -= this.mesh.vertexCount;
+            }
+            this.mesh = mesh;
+            if (mesh != null) {
+                bakedVertices += mesh.vertexCount;
+            }
+        }
+    }
+}
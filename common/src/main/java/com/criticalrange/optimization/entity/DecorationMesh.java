@@ -0,0 +1,107 @@
+package com.criticalrange.optimization.entity;
+
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.util.math.MatrixStack;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+/**
+ * Vertices recorded from one decoration entity, grouped by render layer
+ *
+ * Positions are stored relative to the translation of the pose the entity was rendered with, so
+ * the mesh can be replayed from any camera position as long as the pose has the same rotation.
+ */
+final class DecorationMesh {
+    // x, y, z, color, u, v, overlay, light, normal x, y, z
+    static final int STRIDE = 11;
+
+    // Scratch vectors for transformed replays, render thread only
+    private static final Vector3f POSITION = new Vector3f();
+    private static final Vector3f NORMAL = new Vector3f();
+
+    private final RenderLayer[] layers;
+    private final int[][] vertices;
+    private final float[] rotation;
+    final int vertexCount;
+    final long bakedAt;
+
+    DecorationMesh(RenderLayer[] layers, int[][] vertices, Matrix4f pose, int vertexCount, long bakedAt) {
+        this.layers = layers;
+        this.vertices = vertices;
+        this.rotation = rotationOf(pose);
+        this.vertexCount = vertexCount;
+        this.bakedAt = bakedAt;
+    }
+
+    /**
+     * Whether the mesh was recorded with the same pose rotation and scale
+     */
+    boolean matches(Matrix4f pose) {
+        return rotation[0] == pose.m00() && rotation[1] == pose.m01() && rotation[2] == pose.m02()
+            && rotation[3] == pose.m10() && rotation[4] == pose.m11() && rotation[5] == pose.m12()
+            && rotation[6] == pose.m20() && rotation[7] == pose.m21() && rotation[8] == pose.m22();
+    }
+
+    /**
+     * Write the recorded vertices to the provider, translated to the current pose
+     */
+    void draw(VertexConsumerProvider provider, Matrix4f pose) {
+        float originX = pose.m30();
+        float originY = pose.m31();
+        float originZ = pose.m32();
+        for (int i = 0; i < layers.length; i++) {
+            VertexConsumer consumer = provider.getBuffer(layers[i]);
+            int[] data = vertices[i];
+            for (int v = 0; v < data.length; v += STRIDE) {
+                consumer.vertex(
+                    originX + Float.intBitsToFloat(data[v]),
+                    originY + Float.intBitsToFloat(data[v + 1]),
+                    originZ + Float.intBitsToFloat(data[v + 2]),
+                    data[v + 3],
+                    Float.intBitsToFloat(data[v + 4]),
+                    Float.intBitsToFloat(data[v + 5]),
+                    data[v + 6],
+                    data[v + 7],
+                    Float.intBitsToFloat(data[v + 8]),
+                    Float.intBitsToFloat(data[v + 9]),
+                    Float.intBitsToFloat(data[v + 10]));
+            }
+        }
+    }
+
+    /**
+     * Write the recorded vertices to the provider through the full pose, replacing the recorded light;
+     * used for meshes recorded in model space
+     */
+    void drawTransformed(VertexConsumerProvider provider, MatrixStack.Entry entry, int light) {
+        Matrix4f pose = entry.getPositionMatrix();
+        Matrix3f normalMatrix = entry.getNormalMatrix();
+        for (int i = 0; i < layers.length; i++) {
+            VertexConsumer consumer = provider.getBuffer(layers[i]);
+            int[] data = vertices[i];
+            for (int v = 0; v < data.length; v += STRIDE) {
+                pose.transformPosition(Float.intBitsToFloat(data[v]), Float.intBitsToFloat(data[v + 1]),
+                    Float.intBitsToFloat(data[v + 2]), POSITION);
+                normalMatrix.transform(Float.intBitsToFloat(data[v + 8]), Float.intBitsToFloat(data[v + 9]),
+                    Float.intBitsToFloat(data[v + 10]), NORMAL);
+                if (NORMAL.lengthSquared() > 0.0F) {
+                    NORMAL.normalize();
+                }
+                consumer.vertex(POSITION.x, POSITION.y, POSITION.z, data[v + 3],
+                    Float.intBitsToFloat(data[v + 4]), Float.intBitsToFloat(data[v + 5]),
+                    data[v + 6], light, NORMAL.x, NORMAL.y, NORMAL.z);
+            }
+        }
+    }
+
+    private static float[] rotationOf(Matrix4f pose) {
+        return new float[] {
+            pose.m00(), pose.m01(), pose.m02(),
+            pose.m10(), pose.m11(), pose.m12(),
+            pose.m20(), pose.m21(), pose.m22()
+        };
+    }
+}
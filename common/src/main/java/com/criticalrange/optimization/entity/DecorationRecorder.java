@@ -0,0 +1,211 @@
+package com.criticalrange.optimization.entity;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.client.render.OverlayTexture;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import org.joml.Matrix4f;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Vertex consumer provider that forwards everything to the real provider and records a copy
+ *
+ * One recorder is reused for every capture; the per-layer buffers keep their capacity between
+ * captures so recording does not allocate once it has warmed up.
+ */
+final class DecorationRecorder implements VertexConsumerProvider {
+    // Layers seen by the recorder; the map is dropped when mods cycle through many dynamic layers
+    private static final int MAX_CACHED_LAYERS = 64;
+
+    private final Reference2ObjectOpenHashMap<RenderLayer, LayerRecorder> recorders = new Reference2ObjectOpenHashMap<>();
+    private final List<LayerRecorder> used = new ArrayList<>();
+    private final int maxVertices;
+
+    private VertexConsumerProvider target;
+    private float originX;
+    private float originY;
+    private float originZ;
+    private int vertexCount;
+    private int capture;
+
+    DecorationRecorder(int maxVertices) {
+        this.maxVertices = maxVertices;
+    }
+
+    /**
+     * Start recording everything written through this provider into the target
+     */
+    void begin(VertexConsumerProvider target, Matrix4f pose) {
+        if (recorders.size() > MAX_CACHED_LAYERS) {
+            recorders.clear();
+        }
+        this.target = target;
+        this.originX = pose.m30();
+        this.originY = pose.m31();
+        this.originZ = pose.m32();
+        this.vertexCount = 0;
+        this.used.clear();
+        this.capture++;
+    }
+
+    boolean isRecording() {
+        return target != null;
+    }
+
+    /**
+     * Stop recording and throw away what was written
+     */
+    void abort() {
+        vertexCount = maxVertices + 1;
+        finish(null, 0);
+    }
+
+    /**
+     * Stop recording and return the mesh, or null when nothing usable was written
+     */
+    DecorationMesh finish(Matrix4f pose, long tick) {
+        target = null;
+        DecorationMesh mesh = null;
+        if (vertexCount > 0 && vertexCount <= maxVertices) {
+            RenderLayer[] layers = new RenderLayer[used.size()];
+            int[][] vertices = new int[used.size()][];
+            for (int i = 0; i < layers.length; i++) {
+                LayerRecorder recorder = used.get(i);
+                layers[i] = recorder.layer;
+                vertices[i] = recorder.data.toIntArray();
+            }
+            mesh = new DecorationMesh(layers, vertices, pose, vertexCount, tick);
+        }
+        for (LayerRecorder recorder : used) {
+            recorder.reset();
+        }
+        used.clear();
+        return mesh;
+    }
+
+    @Override
+    public VertexConsumer getBuffer(RenderLayer layer) {
+        LayerRecorder recorder = recorders.get(layer);
+        if (recorder == null) {
+            recorder = new LayerRecorder(layer);
+            recorders.put(layer, recorder);
+        }
+        if (recorder.capture != capture) {
+            recorder.capture = capture;
+            recorder.reset();
+            used.add(recorder);
+        }
+        recorder.delegate = target.getBuffer(layer);
+        return recorder;
+    }
+
+    private final class LayerRecorder implements VertexConsumer {
+        private final RenderLayer layer;
+        private final IntArrayList data = new IntArrayList();
+        private VertexConsumer delegate;
+        private int vertexStart = -1;
+        private int capture = -1;
+
+        private LayerRecorder(RenderLayer layer) {
+            this.layer = layer;
+        }
+
+        private void reset() {
+            data.clear();
+            delegate = null;
+            vertexStart = -1;
+        }
+
+        private void set(int offset, int value) {
+            if (vertexStart >= 0) {
+                data.set(vertexStart + offset, value);
+            }
+        }
+
+        @Override
+        public VertexConsumer vertex(float x, float y, float z) {
+            delegate.vertex(x, y, z);
+            vertexStart = -1;
+            if (++vertexCount > maxVertices) {
+                // Too large to keep, the capture is discarded in finish
+                return this;
+            }
+            vertexStart = data.size();
+            data.add(Float.floatToRawIntBits(x - originX));
+            data.add(Float.floatToRawIntBits(y - originY));
+            data.add(Float.floatToRawIntBits(z - originZ));
+            data.add(-1);
+            data.add(0);
+            data.add(0);
+            data.add(OverlayTexture.DEFAULT_UV);
+            data.add(0);
+            data.add(0);
+            data.add(Float.floatToRawIntBits(1.0F));
+            data.add(0);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer color(int red, int green, int blue, int alpha) {
+            delegate.color(red, green, blue, alpha);
+            set(3, (alpha & 0xFF) << 24 | (red & 0xFF) << 16 | (green & 0xFF) << 8 | blue & 0xFF);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer texture(float u, float v) {
+            delegate.texture(u, v);
+            set(4, Float.floatToRawIntBits(u));
+            set(5, Float.floatToRawIntBits(v));
+            return this;
+        }
+
+        @Override
+        public VertexConsumer overlay(int u, int v) {
+            delegate.overlay(u, v);
+            set(6, u & 0xFFFF | v << 16);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer light(int u, int v) {
+            delegate.light(u, v);
+            set(7, u & 0xFFFF | v << 16);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer normal(float x, float y, float z) {
+            delegate.normal(x, y, z);
+            set(8, Float.floatToRawIntBits(x));
+            set(9, Float.floatToRawIntBits(y));
+            set(10, Float.floatToRawIntBits(z));
+            return this;
+        }
+
+        @Override
+        public void vertex(float x, float y, float z, int color, float u, float v, int overlay, int light,
+                           float normalX, float normalY, float normalZ) {
+            delegate.vertex(x, y, z, color, u, v, overlay, light, normalX, normalY, normalZ);
+            vertexStart = -1;
+            if (++vertexCount > maxVertices) {
+                return;
+            }
+            data.add(Float.floatToRawIntBits(x - originX));
+            data.add(Float.floatToRawIntBits(y - originY));
+            data.add(Float.floatToRawIntBits(z - originZ));
+            data.add(color);
+            data.add(Float.floatToRawIntBits(u));
+            data.add(Float.floatToRawIntBits(v));
+            data.add(overlay);
+            data.add(light);
+            data.add(Float.floatToRawIntBits(normalX));
+            data.add(Float.floatToRawIntBits(normalY));
+            data.add(Float.floatToRawIntBits(normalZ));
+        }
+    }
+}
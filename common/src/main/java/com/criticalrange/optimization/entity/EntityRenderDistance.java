@@ -0,0 +1,103 @@
+package com.criticalrange.optimization.entity;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.ConfigurationManager;
+import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.optimization.FrameCounter;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.util.Identifier;
+
+/**
+ * Per-entity-type render distance
+ *
+ * Decoration entities have their own on/off toggles and distance settings; any other entity type can be limited
+ * through the entity render distance table keyed by entity id. The squared limit is cached on the
+ * entity type itself and recomputed when the config changes, so the per-entity cost is one
+ * field read and one squared-distance compare.
+ *
+ * Only the render thread calls into this class.
+ */
+public final class EntityRenderDistance {
+    private static final FrameCounter CULLED = new FrameCounter();
+
+    private EntityRenderDistance() {
+    }
+
+    /**
+     * Whether the entity is farther from the camera than its type's render distance, or its type is switched off
+     */
+    public static boolean isBeyondDistance(Entity entity, double cameraX, double cameraY, double cameraZ) {
+        double maxDistanceSq = getMaxDistanceSq(entity.getType());
+        if (maxDistanceSq == 0.0 || maxDistanceSq > 0.0 && entity.squaredDistanceTo(cameraX, cameraY, cameraZ) <= maxDistanceSq) {
+            return false;
+        }
+        CULLED.increment();
+        return true;
+    }
+
+    /**
+     * Squared render distance limit for an entity type, 0 when the vanilla distance applies
+     * and {@link RenderDistanceHolder#HIDDEN} when the type is switched off
+     */
+    public static double getMaxDistanceSq(EntityType<?> type) {
+        RenderDistanceHolder holder = (RenderDistanceHolder) type;
+        int configVersion = ConfigurationManager.getConfigVersion();
+        if (holder.vulkanmodExtra$getDistanceVersion() != configVersion) {
+            int distance = resolveDistance(type);
+            holder.vulkanmodExtra$setMaxDistance(configVersion, distance < 0 ? RenderDistanceHolder.HIDDEN : (double) distance * distance);
+        }
+        return holder.vulkanmodExtra$getMaxDistanceSq();
+    }
+
+    /**
+     * Entities culled by type distance during the last completed frame
+     */
+    public static int getCulledLastFrame() {
+        return CULLED.getLastFrame();
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        return String.format("Entity Render Distance: %d entities culled last frame\n", getCulledLastFrame());
+    }
+
+    // Distance in blocks, 0 for vanilla, -1 when the type is switched off entirely
+    private static int resolveDistance(EntityType<?> type) {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        if (config == null || config.renderSettings == null) {
+            return 0;
+        }
+        VulkanModExtraConfig.RenderSettings settings = config.renderSettings;
+
+        // On/off toggles win over any distance
+        boolean isItemFrame = type == EntityType.ITEM_FRAME || type == EntityType.GLOW_ITEM_FRAME;
+        if (isItemFrame && !settings.itemFrame
+            || type == EntityType.ARMOR_STAND && !settings.armorStand
+            || type == EntityType.PAINTING && !settings.painting) {
+            return -1;
+        }
+
+        Identifier id = EntityType.getId(type);
+        Integer configured = settings.entityRenderDistances.get(id.toString());
+        if (configured == null && "minecraft".equals(id.getNamespace())) {
+            configured = settings.entityRenderDistances.get(id.getPath());
+        }
+        if (configured != null) {
+            return Math.max(0, configured);
+        }
+
+        if (isItemFrame) {
+            return settings.itemFrameDistance;
+        }
+        if (type == EntityType.ARMOR_STAND) {
+            return settings.armorStandDistance;
+        }
+        if (type == EntityType.PAINTING) {
+            return settings.paintingDistance;
+        }
+        return 0;
+    }
+}
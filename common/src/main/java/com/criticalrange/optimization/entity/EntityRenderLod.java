@@ -0,0 +1,121 @@
+package com.criticalrange.optimization.entity;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.optimization.FrameCounter;
+import net.minecraft.entity.Entity;
+
+/**
+ * Entity render level of detail (crowd mode)
+ *
+ * Every rendered entity is assigned a level from its camera distance:
+ * <ul>
+ *   <li>{@link #LEVEL_NO_SHADOW}: the shadow is skipped</li>
+ *   <li>{@link #LEVEL_NO_FEATURES}: feature layers are skipped as well, which covers armor, held items, capes and elytra</li>
+ * </ul>
+ * Each level includes the reductions of the levels below it.
+ *
+ * The pose is always updated: renderers share one model per entity type, so a skipped pose update
+ * would draw the entity in another entity's pose.
+ *
+ * When the previous frame drew more entities than the crowd threshold, every band starts at half its
+ * distance. The level of the entity being rendered is held for the duration of its render call, so the
+ * renderer mixins only read one field. Only the render thread calls into this class.
+ */
+public final class EntityRenderLod {
+    public static final int LEVEL_FULL = 0;
+    public static final int LEVEL_NO_SHADOW = 1;
+    public static final int LEVEL_NO_FEATURES = 2;
+
+    private static final FrameCounter RENDERED = new FrameCounter();
+    private static final FrameCounter[] REDUCED = {
+        null, new FrameCounter(), new FrameCounter()
+    };
+
+    // Band limits squared, resolved once per frame; 0 disables a band
+    private static boolean enabled = false;
+    private static boolean crowded = false;
+    private static double shadowDistanceSq;
+    private static double featureDistanceSq;
+
+    private static int currentLevel = LEVEL_FULL;
+    // Squared camera distance of the entity being rendered, -1 outside an entity render
+    private static double currentDistanceSq = -1.0;
+
+    private EntityRenderLod() {
+    }
+
+    /**
+     * Resolve the bands for a new frame from the config and the entity count of the last frame
+     */
+    public static void beginFrame() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        enabled = config != null && config.renderSettings != null && config.renderSettings.entityRenderLod;
+        if (!enabled) {
+            crowded = false;
+            return;
+        }
+
+        VulkanModExtraConfig.RenderSettings settings = config.renderSettings;
+        crowded = settings.entityLodCrowdThreshold > 0 && RENDERED.getLastFrame() > settings.entityLodCrowdThreshold;
+        double scale = crowded ? 0.5 : 1.0;
+        shadowDistanceSq = squared(settings.entityLodShadowDistance * scale);
+        featureDistanceSq = squared(settings.entityLodFeatureDistance * scale);
+    }
+
+    /**
+     * Start rendering an entity and hold its level until {@link #endEntity}
+     */
+    public static void beginEntity(Entity entity, double cameraX, double cameraY, double cameraZ) {
+        RENDERED.increment();
+        currentDistanceSq = entity.squaredDistanceTo(cameraX, cameraY, cameraZ);
+        currentLevel = enabled ? getLevel(currentDistanceSq) : LEVEL_FULL;
+        if (currentLevel != LEVEL_FULL) {
+            REDUCED[currentLevel].increment();
+        }
+    }
+
+    public static void endEntity() {
+        currentLevel = LEVEL_FULL;
+        currentDistanceSq = -1.0;
+    }
+
+    /**
+     * Squared camera distance of the entity being rendered, -1 when no entity render is in progress
+     * (hands, GUI items, block entities)
+     */
+    public static double getCurrentDistanceSq() {
+        return currentDistanceSq;
+    }
+
+    public static boolean shouldRenderShadow() {
+        return currentLevel < LEVEL_NO_SHADOW;
+    }
+
+    public static boolean shouldRenderFeatures() {
+        return currentLevel < LEVEL_NO_FEATURES;
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        return String.format("Entity Render LOD: %d rendered, %d without shadow, %d without layers%s\n",
+            RENDERED.getLastFrame(), REDUCED[LEVEL_NO_SHADOW].getLastFrame(), REDUCED[LEVEL_NO_FEATURES].getLastFrame(),
+            crowded ? " (crowd mode)" : "");
+    }
+
+    private static int getLevel(double distanceSq) {
+        if (featureDistanceSq > 0.0 && distanceSq > featureDistanceSq) {
+            return LEVEL_NO_FEATURES;
+        }
+        if (shadowDistanceSq > 0.0 && distanceSq > shadowDistanceSq) {
+            return LEVEL_NO_SHADOW;
+        }
+        return LEVEL_FULL;
+    }
+
+    private static double squared(double distance) {
+        return distance * distance;
+    }
+}
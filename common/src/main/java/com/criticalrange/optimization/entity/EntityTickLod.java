@@ -0,0 +1,142 @@
+package com.criticalrange.optimization.entity;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.Arrays;
+
+/**
+ * Client entity tick level of detail
+ *
+ * Entities beyond the configured distance bands tick every 2nd, 4th or 8th client tick. Each entity
+ * is staggered by its id so a farm of distant mobs spreads its ticks evenly instead of ticking
+ * together. Between two real ticks the renderer stretches the entity's interpolation over the whole
+ * interval, see {@link #getRenderTickDelta}, so reduced-rate entities still move smoothly; their
+ * animations (limb swing, age based effects) simply advance at the reduced rate.
+ *
+ * Only non-player living entities are throttled: their movement comes from the server and the client
+ * merely interpolates towards it. Everything the client simulates itself (projectiles, fireworks, items,
+ * XP orbs, primed TNT, falling blocks, boats and minecarts) would freeze and jump, so it always ticks at
+ * full rate, as do players, entities carrying passengers (including anything the player rides) and the
+ * camera entity. Only the client thread calls into this class.
+ */
+public final class EntityTickLod {
+    // Tick intervals of the four bands: full rate, then every 2nd, 4th and 8th tick
+    private static final int[] BAND_INTERVALS = {1, 2, 4, 8};
+
+    private static long tickIndex = 0;
+    private static double cameraX;
+    private static double cameraY;
+    private static double cameraZ;
+    private static Entity cameraEntity;
+
+    // Band limits squared, resolved once per tick
+    private static boolean enabled = false;
+    private static double halfRateDistanceSq;
+    private static double quarterRateDistanceSq;
+    private static double eighthRateDistanceSq;
+
+    private static final int[] currentBandCounts = new int[BAND_INTERVALS.length];
+    private static final int[] lastBandCounts = new int[BAND_INTERVALS.length];
+    private static int currentSkipped = 0;
+    private static int lastSkipped = 0;
+
+    private EntityTickLod() {
+    }
+
+    /**
+     * Start a client world entity tick: advance the tick index and sample the camera position
+     */
+    public static void beginTick(MinecraftClient client) {
+        tickIndex++;
+        System.arraycopy(currentBandCounts, 0, lastBandCounts, 0, currentBandCounts.length);
+        Arrays.fill(currentBandCounts, 0);
+        lastSkipped = currentSkipped;
+        currentSkipped = 0;
+
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        enabled = config != null && config.optimizationSettings != null && config.optimizationSettings.entityTickLod
+            && client.gameRenderer != null;
+        if (!enabled) {
+            cameraEntity = null;
+            return;
+        }
+
+        VulkanModExtraConfig.OptimizationSettings settings = config.optimizationSettings;
+        // Later bands never start before earlier ones
+        double half = Math.max(0, settings.entityTickHalfRateDistance);
+        double quarter = Math.max(half, settings.entityTickQuarterRateDistance);
+        double eighth = Math.max(quarter, settings.entityTickEighthRateDistance);
+        halfRateDistanceSq = half * half;
+        quarterRateDistanceSq = quarter * quarter;
+        eighthRateDistanceSq = eighth * eighth;
+
+        Vec3d pos = client.gameRenderer.getCamera().getPos();
+        cameraX = pos.x;
+        cameraY = pos.y;
+        cameraZ = pos.z;
+        cameraEntity = client.getCameraEntity();
+    }
+
+    /**
+     * Whether the entity ticks this client tick; records the interval when it does
+     */
+    public static boolean shouldTick(Entity entity) {
+        TickLodHolder holder = (TickLodHolder) entity;
+        if (!enabled) {
+            holder.vulkanmodExtra$setTicked(tickIndex, 1);
+            return true;
+        }
+
+        int band = getBand(entity);
+        int interval = BAND_INTERVALS[band];
+        if (interval > 1 && ((tickIndex + entity.getId()) & (interval - 1)) != 0) {
+            currentSkipped++;
+            return false;
+        }
+        currentBandCounts[band]++;
+        holder.vulkanmodExtra$setTicked(tickIndex, interval);
+        return true;
+    }
+
+    /**
+     * Interpolation progress for rendering an entity, stretched over its tick interval
+     */
+    public static float getRenderTickDelta(Entity entity, float tickDelta) {
+        TickLodHolder holder = (TickLodHolder) entity;
+        int interval = holder.vulkanmodExtra$getTickInterval();
+        if (interval <= 1) {
+            return tickDelta;
+        }
+        float progress = ((tickIndex - holder.vulkanmodExtra$getLastTick()) + tickDelta) / interval;
+        return Math.min(1.0F, progress);
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        return String.format("Entity Tick LOD: %d full, %d half, %d quarter, %d eighth rate ticks, %d skipped last tick\n",
+            lastBandCounts[0], lastBandCounts[1], lastBandCounts[2], lastBandCounts[3], lastSkipped);
+    }
+
+    private static int getBand(Entity entity) {
+        if (!(entity instanceof LivingEntity) || entity instanceof PlayerEntity || entity.hasPassengers()
+            || entity == cameraEntity) {
+            return 0;
+        }
+        double distanceSq = entity.squaredDistanceTo(cameraX, cameraY, cameraZ);
+        if (halfRateDistanceSq <= 0.0 || distanceSq < halfRateDistanceSq) {
+            return 0;
+        }
+        if (distanceSq < quarterRateDistanceSq) {
+            return 1;
+        }
+        return distanceSq < eighthRateDistanceSq ? 2 : 3;
+    }
+}
@@ -0,0 +1,98 @@
+package com.criticalrange.optimization.entity;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.optimization.FrameCounter;
+
+/**
+ * Enchantment glint and entity shadow cost limits
+ *
+ * Every glint adds a second pass over the item or armor model, and every shadow samples the blocks
+ * under its entity. Past the configured distance neither is drawn, and each frame draws at most the
+ * configured number of them, in the order entities are rendered. Limits are resolved once per frame.
+ *
+ * The limits only apply inside an entity render (see {@link EntityRenderLod}), so held items in first
+ * person, GUI items and block entities always keep their glint. Only the render thread calls into this class.
+ */
+public final class GlintShadowLimiter {
+    private static final FrameCounter SKIPPED_GLINTS = new FrameCounter();
+    private static final FrameCounter SKIPPED_SHADOWS = new FrameCounter();
+
+    // Squared distances, 0 when unlimited; caps per frame, 0 when unlimited
+    private static double glintDistanceSq;
+    private static double shadowDistanceSq;
+    private static int maxGlints;
+    private static int maxShadows;
+    private static int glints;
+    private static int shadows;
+
+    private GlintShadowLimiter() {
+    }
+
+    /**
+     * Resolve the limits for a new frame
+     */
+    public static void beginFrame() {
+        glints = 0;
+        shadows = 0;
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        if (config == null || config.renderSettings == null) {
+            glintDistanceSq = shadowDistanceSq = 0.0;
+            maxGlints = maxShadows = 0;
+            return;
+        }
+        VulkanModExtraConfig.RenderSettings settings = config.renderSettings;
+        glintDistanceSq = (double) settings.glintDistance * settings.glintDistance;
+        shadowDistanceSq = (double) settings.shadowDistance * settings.shadowDistance;
+        maxGlints = settings.maxGlintsPerFrame;
+        maxShadows = settings.maxShadowsPerFrame;
+    }
+
+    /**
+     * Whether a glint pass of the entity being rendered is drawn; counts it when it is
+     */
+    public static boolean shouldRenderGlint() {
+        double distanceSq = EntityRenderLod.getCurrentDistanceSq();
+        if (distanceSq < 0.0) {
+            return true;
+        }
+        if (glintDistanceSq > 0.0 && distanceSq > glintDistanceSq || maxGlints > 0 && glints >= maxGlints) {
+            SKIPPED_GLINTS.increment();
+            return false;
+        }
+        glints++;
+        return true;
+    }
+
+    /**
+     * Whether the shadow of the entity being rendered is drawn; counts it when it is
+     */
+    public static boolean shouldRenderShadow() {
+        double distanceSq = EntityRenderLod.getCurrentDistanceSq();
+        if (distanceSq < 0.0) {
+            return true;
+        }
+        if (shadowDistanceSq > 0.0 && distanceSq > shadowDistanceSq || maxShadows > 0 && shadows >= maxShadows) {
+            SKIPPED_SHADOWS.increment();
+            return false;
+        }
+        shadows++;
+        return true;
+    }
+
+    public static int getSkippedGlintsLastFrame() {
+        return SKIPPED_GLINTS.getLastFrame();
+    }
+
+    public static int getSkippedShadowsLastFrame() {
+        return SKIPPED_SHADOWS.getLastFrame();
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        return String.format("Glint & Shadows: %d glint passes, %d shadows skipped last frame\n",
+            getSkippedGlintsLastFrame(), getSkippedShadowsLastFrame());
+    }
+}
@@ -0,0 +1,122 @@
+package com.criticalrange.optimization.entity;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.optimization.FrameCounter;
+import com.criticalrange.optimization.FrameState;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.ExperienceOrbEntity;
+import net.minecraft.entity.ItemEntity;
+import net.minecraft.item.Item;
+import net.minecraft.util.math.ChunkSectionPos;
+
+/**
+ * Dropped item and experience orb render level of detail
+ *
+ * Past the LOD distance an item stack renders a single model instead of up to five copies, and items
+ * of the same kind (or orbs) sharing a one-block cell are drawn once: the first one to reach the
+ * renderer in a frame represents the whole cluster. Independently of distance, at most the configured
+ * number of items and orbs are drawn per chunk section.
+ *
+ * Decisions are made in EntityRenderDispatcher.shouldRender. 1.21.2+ tests every entity before it renders
+ * or extracts any of them, so the stacks drawn as a single model are remembered by entity id for the frame,
+ * and the renderer looks up the entity it is drawing or extracting, see {@link #beginEntity}.
+ * Only the render thread calls into this class.
+ */
+public final class ItemEntityLod {
+    // Cluster key of experience orbs; items use their raw registry id
+    private static final int ORB_KIND = -1;
+
+    private static final FrameCounter SINGLE_MODEL = new FrameCounter();
+    private static final FrameCounter CLUSTERED = new FrameCounter();
+    private static final FrameCounter CAPPED = new FrameCounter();
+
+    // Occupied cells per kind; the sets are kept across frames and only emptied
+    private static final Int2ObjectOpenHashMap<LongOpenHashSet> clusters = new Int2ObjectOpenHashMap<>();
+    private static final Long2IntOpenHashMap sectionCounts = new Long2IntOpenHashMap();
+    private static final IntOpenHashSet singleModelIds = new IntOpenHashSet();
+    private static long frame = -1;
+    // Entity being rendered or extracted, null outside of it (GUI and held items)
+    private static Entity currentEntity = null;
+
+    private ItemEntityLod() {
+    }
+
+    /**
+     * Whether an item or orb that passed the vanilla checks is drawn this frame; records stacks drawn as a single model
+     */
+    public static boolean shouldRender(Entity entity, double cameraX, double cameraY, double cameraZ) {
+        boolean isItem = entity instanceof ItemEntity;
+        if (!isItem && !(entity instanceof ExperienceOrbEntity)) {
+            return true;
+        }
+
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        if (config == null || config.renderSettings == null) {
+            return true;
+        }
+        VulkanModExtraConfig.RenderSettings settings = config.renderSettings;
+
+        long frameIndex = FrameState.getFrameIndex();
+        if (frameIndex != frame) {
+            frame = frameIndex;
+            for (LongOpenHashSet cells : clusters.values()) {
+                cells.clear();
+            }
+            sectionCounts.clear();
+            singleModelIds.clear();
+        }
+
+        double lodDistance = settings.itemLodDistance;
+        boolean singleModel = lodDistance > 0.0 && entity.squaredDistanceTo(cameraX, cameraY, cameraZ) > lodDistance * lodDistance;
+        if (singleModel) {
+            int kind = isItem ? Item.getRawId(((ItemEntity) entity).getStack().getItem()) : ORB_KIND;
+            if (!clusters.computeIfAbsent(kind, k -> new LongOpenHashSet()).add(entity.getBlockPos().asLong())) {
+                CLUSTERED.increment();
+                return false;
+            }
+        }
+
+        int maxPerSection = settings.maxItemsPerSection;
+        if (maxPerSection > 0 && sectionCounts.addTo(ChunkSectionPos.toLong(entity.getBlockPos()), 1) >= maxPerSection) {
+            CAPPED.increment();
+            return false;
+        }
+        if (singleModel && isItem) {
+            singleModelIds.add(entity.getId());
+            SINGLE_MODEL.increment();
+        }
+        return true;
+    }
+
+    /**
+     * Start rendering or extracting an entity, until {@link #endEntity}
+     */
+    public static void beginEntity(Entity entity) {
+        currentEntity = entity;
+    }
+
+    public static void endEntity() {
+        currentEntity = null;
+    }
+
+    /**
+     * Number of model copies to draw for the current stack, given the vanilla amount
+     */
+    public static int getRenderedAmount(int renderedAmount) {
+        Entity entity = currentEntity;
+        return entity instanceof ItemEntity && singleModelIds.contains(entity.getId()) ? 1 : renderedAmount;
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        return String.format("Item LOD: %d single model, %d clustered, %d over section cap last frame\n",
+            SINGLE_MODEL.getLastFrame(), CLUSTERED.getLastFrame(), CAPPED.getLastFrame());
+    }
+}
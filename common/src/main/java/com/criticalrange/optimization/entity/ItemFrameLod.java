@@ -0,0 +1,69 @@
+package com.criticalrange.optimization.entity;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.optimization.FrameCounter;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.component.DataComponentTypes;
+import net.minecraft.entity.decoration.ItemFrameEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * Item frame level of detail
+ *
+ * Past the configured distance an item frame renders as an empty frame: the held item model,
+ * usually the expensive part, is skipped. Filled maps are kept because they are drawn as a single
+ * flat quad from their cached map texture, so map art stays visible from across a hall.
+ *
+ * Only the render thread calls into this class.
+ */
+public final class ItemFrameLod {
+    private static final FrameCounter REDUCED = new FrameCounter();
+
+    private ItemFrameLod() {
+    }
+
+    /**
+     * The stack the renderer should draw for an item frame: the held stack, or an empty stack past the LOD distance
+     */
+    public static ItemStack getRenderedStack(ItemFrameEntity frame, ItemStack heldStack) {
+        if (heldStack.isEmpty() || heldStack.contains(DataComponentTypes.MAP_ID) || !isBeyondLodDistance(frame)) {
+            return heldStack;
+        }
+        REDUCED.increment();
+        return ItemStack.EMPTY;
+    }
+
+    /**
+     * Whether the item frame is past the LOD distance, false when the LOD is off
+     */
+    public static boolean isBeyondLodDistance(ItemFrameEntity frame) {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        if (config == null || config.renderSettings == null || config.renderSettings.itemFrameLodDistance <= 0) {
+            return false;
+        }
+
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client.gameRenderer == null) {
+            return false;
+        }
+        Vec3d camera = client.gameRenderer.getCamera().getPos();
+        double lodDistance = config.renderSettings.itemFrameLodDistance;
+        return frame.squaredDistanceTo(camera) > lodDistance * lodDistance;
+    }
+
+    /**
+     * Item frames drawn without their item during the last completed frame
+     */
+    public static int getReducedLastFrame() {
+        return REDUCED.getLastFrame();
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        return String.format("Item Frame LOD: %d frames drawn without their item last frame\n", getReducedLastFrame());
+    }
+}
@@ -0,0 +1,23 @@
+package com.criticalrange.optimization.entity;
+
+/**
+ * Cached render distance limit stored directly on a type object (entity type, block entity type)
+ *
+ * Implemented by mixins so the limit can be read with a field access instead of a map lookup per object.
+ * The limit is recomputed whenever the config version changes.
+ */
+public interface RenderDistanceHolder {
+    double HIDDEN = -1.0;
+
+    /**
+     * Config version the cached limit was computed for, -1 when never computed
+     */
+    int vulkanmodExtra$getDistanceVersion();
+
+    /**
+     * Squared render distance limit, 0 when the type keeps its vanilla distance, {@link #HIDDEN} when it is never rendered
+     */
+    double vulkanmodExtra$getMaxDistanceSq();
+
+    void vulkanmodExtra$setMaxDistance(int configVersion, double maxDistanceSq);
+}
@@ -0,0 +1,201 @@
+package com.criticalrange.optimization.entity;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.optimization.FrameCounter;
+import com.criticalrange.optimization.texture.ResourceGeneration;
+import net.minecraft.block.entity.SignText;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.text.StringVisitable;
+import net.minecraft.text.Style;
+import net.minecraft.text.Text;
+import net.minecraft.util.DyeColor;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * Laid-out sign text meshes
+ *
+ * Signs wrap, shape and emit the glyph quads of their text every frame. This cache records the text
+ * geometry once in sign space, keyed by the text content, and replays it through the current pose.
+ * Signs showing the same text share one mesh. Meshes are kept in least-recently-used order within
+ * a vertex budget and dropped on resource reload, which rebuilds the glyph atlases.
+ *
+ * Glowing text is left to vanilla: its outline depends on the camera, and obfuscated text changes
+ * every frame. Only the render thread calls into this class.
+ */
+public final class SignTextCache {
+    // Budget of all cached meshes, about 2.9 MB; a sign with four full lines needs about 250 vertices
+    private static final int MAX_CACHED_VERTICES = 65536;
+    private static final int MAX_MESH_VERTICES = 2048;
+
+    private static final FrameCounter HITS = new FrameCounter();
+    private static final FrameCounter RECORDED = new FrameCounter();
+    private static final DecorationRecorder RECORDER = new DecorationRecorder(MAX_MESH_VERTICES);
+    private static final VertexConsumerProvider DISCARD = layer -> DiscardingConsumer.INSTANCE;
+
+    private static final LinkedHashMap<Key, DecorationMesh> meshes = new LinkedHashMap<>(256, 0.75F, true);
+    // Sign texts are immutable and replaced when edited, so the mesh is remembered per instance
+    private static final WeakHashMap<SignText, DecorationMesh> bySignText = new WeakHashMap<>();
+    private static int cachedVertices = 0;
+    private static int generation = -1;
+    private static boolean filtered = false;
+
+    private SignTextCache() {
+    }
+
+    /**
+     * The vanilla text pass, called with the recording pose and provider
+     */
+    @FunctionalInterface
+    public interface TextDraw {
+        void render(MatrixStack matrices, VertexConsumerProvider provider);
+    }
+
+    /**
+     * Draw the sign text from the cache, recording it first when needed; false when vanilla should draw it
+     */
+    public static boolean render(Object renderer, SignText signText, boolean front, int lineHeight, int lineWidth,
+                                 MatrixStack matrices, VertexConsumerProvider provider, int light, TextDraw original) {
+        if (!isEnabled() || signText.isGlowing()) {
+            return false;
+        }
+
+        boolean filterText = MinecraftClient.getInstance().shouldFilterText();
+        int currentGeneration = ResourceGeneration.get();
+        if (currentGeneration != generation || filterText != filtered) {
+            clear();
+            generation = currentGeneration;
+            filtered = filterText;
+        }
+
+        DecorationMesh mesh = bySignText.get(signText);
+        if (mesh == null) {
+            Text[] messages = signText.getMessages(filterText);
+            if (isObfuscated(messages)) {
+                return false;
+            }
+            Key key = new Key(renderer, List.of(messages), signText.getColor(), front, lineHeight, lineWidth);
+            mesh = meshes.get(key);
+            if (mesh == null) {
+                mesh = record(original);
+                if (mesh == null) {
+                    return false;
+                }
+                meshes.put(key, mesh);
+                cachedVertices += mesh.vertexCount;
+                evict();
+            } else {
+                HITS.increment();
+            }
+            bySignText.put(signText, mesh);
+        } else {
+            HITS.increment();
+        }
+        mesh.drawTransformed(provider, matrices.peek(), light);
+        return true;
+    }
+
+    /**
+     * Drop every cached mesh
+     */
+    public static void clear() {
+        meshes.clear();
+        bySignText.clear();
+        cachedVertices = 0;
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        return String.format("Sign Text Cache: %d meshes (%d vertices), %d replayed, %d recorded last frame\n",
+            meshes.size(), cachedVertices, HITS.getLastFrame(), RECORDED.getLastFrame());
+    }
+
+    private static DecorationMesh record(TextDraw original) {
+        MatrixStack local = new MatrixStack();
+        RECORDER.begin(DISCARD, local.peek().getPositionMatrix());
+        try {
+            original.render(local, RECORDER);
+        } catch (RuntimeException e) {
+            RECORDER.abort();
+            throw e;
+        }
+        DecorationMesh mesh = RECORDER.finish(local.peek().getPositionMatrix(), 0);
+        if (mesh != null) {
+            RECORDED.increment();
+        }
+        return mesh;
+    }
+
+    private static void evict() {
+        Iterator<DecorationMesh> iterator = meshes.values().iterator();
+        while (cachedVertices > MAX_CACHED_VERTICES && iterator.hasNext()) {
+            DecorationMesh eldest = iterator.next();
+            iterator.remove();
+            cachedVertices -= eldest.vertexCount;
+            bySignText.values().removeIf(mesh -> mesh == eldest);
+        }
+    }
+
+    private static boolean isObfuscated(Text[] messages) {
+        for (Text message : messages) {
+            if (message.visit((style, string) -> style.isObfuscated() ? StringVisitable.TERMINATE_VISIT : Optional.empty(),
+                Style.EMPTY).isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isEnabled() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return config != null && config.blockEntitySettings != null && config.blockEntitySettings.signTextCache;
+    }
+
+    private record Key(Object renderer, List<Text> messages, DyeColor color, boolean front, int lineHeight, int lineWidth) {
+    }
+
+    // Target of the recording pass; the recorded vertices are replayed through the real pose afterwards
+    private static final class DiscardingConsumer implements VertexConsumer {
+        private static final DiscardingConsumer INSTANCE = new DiscardingConsumer();
+
+        @Override
+        public VertexConsumer vertex(float x, float y, float z) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer color(int red, int green, int blue, int alpha) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer texture(float u, float v) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer overlay(int u, int v) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer light(int u, int v) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer normal(float x, float y, float z) {
+            return this;
+        }
+    }
+}
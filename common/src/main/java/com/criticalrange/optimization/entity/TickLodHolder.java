@@ -0,0 +1,22 @@
+package com.criticalrange.optimization.entity;
+
+/**
+ * Tick level-of-detail state stored directly on a client entity
+ *
+ * Implemented by a mixin so the scheduler and the renderer read the entity's tick interval
+ * with a field access. Both values are written when the entity actually ticks.
+ */
+public interface TickLodHolder {
+
+    /**
+     * Ticks between the last real tick and the next one, 1 at full rate
+     */
+    int vulkanmodExtra$getTickInterval();
+
+    /**
+     * Scheduler tick index of the last real tick
+     */
+    long vulkanmodExtra$getLastTick();
+
+    void vulkanmodExtra$setTicked(long tickIndex, int interval);
+}
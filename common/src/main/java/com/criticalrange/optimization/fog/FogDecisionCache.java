@@ -0,0 +1,182 @@
+package com.criticalrange.optimization.fog;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.ConfigurationManager;
+import com.criticalrange.optimization.FrameState;
+import net.minecraft.block.Blocks;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.registry.tag.FluidTags;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.dimension.DimensionTypes;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cached fog decision
+ *
+ * The fog hooks run several times per frame. The decision only depends on the camera block,
+ * the dimension and the config, so it is computed once and reused until one of those changes.
+ * It is also refreshed every few frames so fluids flowing into the camera block are picked up.
+ *
+ * The decision is published as an immutable snapshot through a volatile field, so it can be read
+ * from any thread, including the render state extraction stage on 1.21.9+.
+ *
+ * The cost reported in the diagnostics is sampled: one call in {@link #SAMPLE_INTERVAL} is timed, and
+ * the per-frame cost is estimated from the call count. The counters are plain fields; an update lost
+ * to a race only skews the diagnostics.
+ */
+public final class FogDecisionCache {
+    // Re-check the camera block at least this often even if nothing in the key changed
+    private static final int REVALIDATE_FRAMES = 10;
+    // Time one call in this many; a power of two
+    private static final int SAMPLE_INTERVAL = 64;
+
+    private static volatile Decision current = null;
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    // Call counts of the frame in progress and the last completed frame, and the sampled call cost
+    private static int sampleCounter = 0;
+    private static long countFrame = -1;
+    private static int frameCalls = 0;
+    private static int lastFrameCalls = 0;
+    private static long sampledNanos = 0;
+    private static long sampledCalls = 0;
+
+    private FogDecisionCache() {
+    }
+
+    /**
+     * Whether fog should be rendered for a camera entity standing at the given position
+     */
+    public static boolean shouldRenderFog(World world, BlockPos blockPos) {
+        if (VulkanModExtra.CONFIG == null || VulkanModExtra.CONFIG.renderSettings == null) {
+            return true; // Allow fog if config not loaded
+        }
+
+        long frame = FrameState.getFrameIndex();
+        countCall(frame);
+        boolean timed = (++sampleCounter & (SAMPLE_INTERVAL - 1)) == 0;
+        long start = timed ? System.nanoTime() : 0L;
+        long pos = blockPos.asLong();
+        int configVersion = ConfigurationManager.getConfigVersion();
+
+        Decision decision = current;
+        if (decision != null && decision.matches(world, pos, configVersion, frame)) {
+            HITS.increment();
+            if (timed) {
+                recordCost(System.nanoTime() - start);
+            }
+            return decision.renderFog();
+        }
+
+        boolean renderFog = computeDecision(world, blockPos);
+        current = new Decision(world, pos, configVersion, frame, renderFog);
+        MISSES.increment();
+        if (timed) {
+            recordCost(System.nanoTime() - start);
+        }
+        return renderFog;
+    }
+
+    /**
+     * Drop the cached decision, e.g. when the world changes
+     */
+    public static void invalidate() {
+        current = null;
+    }
+
+    /**
+     * Cache hit rate in percent since startup
+     */
+    public static double getHitRate() {
+        long hits = HITS.sum();
+        long total = hits + MISSES.sum();
+        return total == 0 ? 0.0 : hits * 100.0 / total;
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        long hits = HITS.sum();
+        long misses = MISSES.sum();
+        double nanosPerCall = sampledCalls == 0 ? 0.0 : (double) sampledNanos / sampledCalls;
+        return String.format("Fog Decision Cache: %d hits, %d misses (%.1f%% hit rate), last frame ~%.3f ms (%d calls), avg %.1f us/call sampled\n",
+            hits, misses, getHitRate(), lastFrameCalls * nanosPerCall / 1_000_000.0, lastFrameCalls, nanosPerCall / 1000.0);
+    }
+
+    private static void countCall(long frame) {
+        if (frame != countFrame) {
+            lastFrameCalls = countFrame >= 0 ? frameCalls : 0;
+            countFrame = frame;
+            frameCalls = 0;
+        }
+        frameCalls++;
+    }
+
+    private static void recordCost(long nanos) {
+        sampledNanos += nanos;
+        sampledCalls++;
+    }
+
+    /**
+     * Hierarchical fog decision
+     * 1. Master fog toggle overrides all
+     * 2. Dimension-specific fog toggles (Overworld, Nether, End)
+     * 3. Environment-specific toggles (water, lava, powder snow)
+     */
+    private static boolean computeDecision(World world, BlockPos blockPos) {
+        var renderSettings = VulkanModExtra.CONFIG.renderSettings;
+
+        // Master fog toggle - if disabled, block all fog
+        if (!renderSettings.fog) {
+            return false;
+        }
+
+        // Check dimension-specific fog settings first
+        Identifier dimensionId = world.getDimensionEntry().getKey().map(key -> key.getValue()).orElse(null);
+        if (dimensionId != null) {
+            if (dimensionId.equals(DimensionTypes.OVERWORLD_ID) && !renderSettings.overworldFog) {
+                return false;
+            }
+            if (dimensionId.equals(DimensionTypes.THE_NETHER_ID) && !renderSettings.netherFog) {
+                return false;
+            }
+            if (dimensionId.equals(DimensionTypes.THE_END_ID) && !renderSettings.endFog) {
+                return false;
+            }
+        }
+
+        // Check environment-specific fog settings (applies to all dimensions)
+        FluidState fluidState = world.getFluidState(blockPos);
+
+        if (fluidState.isIn(FluidTags.WATER) && !renderSettings.waterFog) {
+            return false;
+        }
+
+        if (fluidState.isIn(FluidTags.LAVA) && !renderSettings.lavaFog) {
+            return false;
+        }
+
+        if (world.getBlockState(blockPos).isOf(Blocks.POWDER_SNOW) && !renderSettings.powderSnowFog) {
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Immutable fog decision snapshot
+     */
+    private record Decision(World world, long pos, int configVersion, long frame, boolean renderFog) {
+
+        boolean matches(World world, long pos, int configVersion, long frame) {
+            return this.world == world && this.pos == pos && this.configVersion == configVersion
+                && frame - this.frame < REVALIDATE_FRAMES;
+        }
+    }
+}
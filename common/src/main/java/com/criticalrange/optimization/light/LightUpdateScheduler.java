@@ -0,0 +1,211 @@
+package com.criticalrange.optimization.light;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.mixins.render.ChunkLightProviderAccessor;
+import com.criticalrange.optimization.FrameState;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.Camera;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.chunk.light.ChunkLightProvider;
+import org.joml.Vector3f;
+
+import java.util.Arrays;
+import java.util.function.IntSupplier;
+
+/**
+ * Time-budgeted client light updates
+ *
+ * Each frame the client light engine re-checks every pending block position and propagates the
+ * result. Pending checks are kept in a set, so repeated updates of one position are already merged.
+ * The scheduler estimates the cost of one check from previous frames and, when the backlog would
+ * take longer than the per-frame budget, lets only the highest-priority sections through: sections
+ * nearest to the camera, with sections in front of it counted as four times nearer. A section is
+ * always checked as a whole, so all updates to it land in the same frame.
+ *
+ * The backlog always drains completely when it fits the budget, when the frame rate is at its
+ * limit (the frame has slack), or after {@link #MAX_DEFERRED_FRAMES} frames of partial updates.
+ * Only the render thread calls into this class.
+ */
+public final class LightUpdateScheduler {
+    private static final int MAX_DEFERRED_FRAMES = 20;
+    private static final int MIN_BATCH = 256;
+    // Starting estimate of one check including its share of propagation
+    private static final double INITIAL_NANOS_PER_CHECK = 2000.0;
+
+    private static double nanosPerCheck = INITIAL_NANOS_PER_CHECK;
+    private static int partialFrames = 0;
+
+    // Reused buffers for the priority pass
+    private static final LongArrayList deferredBlock = new LongArrayList();
+    private static final LongArrayList deferredSky = new LongArrayList();
+    private static float[] scores = new float[1024];
+    private static float[] sortedScores = new float[1024];
+
+    // Metrics of the current and the last completed frame
+    private static long frame = -1;
+    private static int frameBacklog;
+    private static int frameDeferred;
+    private static long frameNanos;
+    private static volatile int lastBacklog = 0;
+    private static volatile int lastDeferred = 0;
+    private static volatile long lastNanos = 0;
+
+    private LightUpdateScheduler() {
+    }
+
+    /**
+     * Whether the current call should be scheduled: enabled and on the render thread
+     */
+    public static boolean isActive() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return config != null && config.renderSettings != null && config.renderSettings.lightUpdates
+            && MinecraftClient.getInstance().isOnThread();
+    }
+
+    /**
+     * Run the light updates within the frame budget; returns what the vanilla update returned
+     */
+    public static int run(ChunkLightProvider<?, ?> blockProvider, ChunkLightProvider<?, ?> skyProvider, IntSupplier original) {
+        rollFrame();
+        LongOpenHashSet blockChecks = pendingChecks(blockProvider);
+        LongOpenHashSet skyChecks = pendingChecks(skyProvider);
+        int backlog = size(blockChecks) + size(skyChecks);
+
+        long budgetNanos = Math.max(1, VulkanModExtra.CONFIG.renderSettings.lightUpdateBudget) * 1000L;
+        int batch = (int) Math.max(MIN_BATCH, Math.min(Integer.MAX_VALUE, budgetNanos / nanosPerCheck));
+        boolean drain = backlog <= batch || partialFrames >= MAX_DEFERRED_FRAMES || hasSlack();
+        if (!drain) {
+            deferLowestPriority(blockChecks, skyChecks, backlog, batch);
+        }
+        int deferred = deferredBlock.size() + deferredSky.size();
+        partialFrames = deferred > 0 ? partialFrames + 1 : 0;
+
+        long start = System.nanoTime();
+        int result;
+        try {
+            result = original.getAsInt();
+        } finally {
+            // The update clears the pending sets, deferred checks go back for the next frame
+            restore(blockChecks, deferredBlock);
+            restore(skyChecks, deferredSky);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        int processed = backlog - deferred;
+        if (processed >= MIN_BATCH) {
+            nanosPerCheck = nanosPerCheck * 0.75 + (double) elapsed / processed * 0.25;
+        }
+        frameBacklog += backlog;
+        frameDeferred += deferred;
+        frameNanos += elapsed;
+        return result;
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        return String.format("Light Updates: %d pending checks, %d deferred, %.2f ms last frame\n",
+            lastBacklog, lastDeferred, lastNanos / 1_000_000.0);
+    }
+
+    private static void rollFrame() {
+        long frameIndex = FrameState.getFrameIndex();
+        if (frameIndex != frame) {
+            boolean consecutive = frameIndex - frame == 1;
+            lastBacklog = consecutive ? frameBacklog : 0;
+            lastDeferred = consecutive ? frameDeferred : 0;
+            lastNanos = consecutive ? frameNanos : 0;
+            frameBacklog = 0;
+            frameDeferred = 0;
+            frameNanos = 0;
+            frame = frameIndex;
+        }
+    }
+
+    // The frame limiter is holding the frame rate at its cap, so there is time left in the frame
+    private static boolean hasSlack() {
+        MinecraftClient client = MinecraftClient.getInstance();
+        int maxFps = client.options.getMaxFps().getValue();
+        return maxFps < 260 && client.getCurrentFps() >= maxFps;
+    }
+
+    // Move every check whose section scores worse than the batch threshold out of the pending sets
+    private static void deferLowestPriority(LongOpenHashSet blockChecks, LongOpenHashSet skyChecks, int backlog, int batch) {
+        Camera camera = MinecraftClient.getInstance().gameRenderer.getCamera();
+        Vec3d cameraPos = camera.getPos();
+        Vector3f forward = camera.getHorizontalPlane();
+        if (scores.length < backlog) {
+            scores = new float[Math.max(backlog, scores.length * 2)];
+            sortedScores = new float[scores.length];
+        }
+
+        int count = score(blockChecks, 0, cameraPos, forward);
+        score(skyChecks, count, cameraPos, forward);
+        System.arraycopy(scores, 0, sortedScores, 0, backlog);
+        Arrays.sort(sortedScores, 0, backlog);
+        float threshold = sortedScores[batch - 1];
+
+        defer(blockChecks, deferredBlock, threshold, cameraPos, forward);
+        defer(skyChecks, deferredSky, threshold, cameraPos, forward);
+    }
+
+    private static int score(LongOpenHashSet checks, int offset, Vec3d cameraPos, Vector3f forward) {
+        if (checks == null) {
+            return offset;
+        }
+        LongIterator iterator = checks.iterator();
+        while (iterator.hasNext()) {
+            scores[offset++] = scoreOf(iterator.nextLong(), cameraPos, forward);
+        }
+        return offset;
+    }
+
+    private static void defer(LongOpenHashSet checks, LongArrayList deferred, float threshold, Vec3d cameraPos, Vector3f forward) {
+        if (checks == null) {
+            return;
+        }
+        LongIterator iterator = checks.iterator();
+        while (iterator.hasNext()) {
+            long pos = iterator.nextLong();
+            if (scoreOf(pos, cameraPos, forward) > threshold) {
+                deferred.add(pos);
+            }
+        }
+        for (int i = 0; i < deferred.size(); i++) {
+            checks.remove(deferred.getLong(i));
+        }
+    }
+
+    // Squared distance from the camera to the centre of the position's section, quartered in front of the camera
+    private static float scoreOf(long pos, Vec3d cameraPos, Vector3f forward) {
+        double dx = (BlockPos.unpackLongX(pos) & ~15) + 8 - cameraPos.x;
+        double dy = (BlockPos.unpackLongY(pos) & ~15) + 8 - cameraPos.y;
+        double dz = (BlockPos.unpackLongZ(pos) & ~15) + 8 - cameraPos.z;
+        double distanceSq = dx * dx + dy * dy + dz * dz;
+        boolean inFront = dx * forward.x() + dz * forward.z() >= 0.0;
+        return (float) (inFront ? distanceSq * 0.25 : distanceSq);
+    }
+
+    private static void restore(LongOpenHashSet checks, LongArrayList deferred) {
+        if (checks != null) {
+            for (int i = 0; i < deferred.size(); i++) {
+                checks.add(deferred.getLong(i));
+            }
+        }
+        deferred.clear();
+    }
+
+    private static LongOpenHashSet pendingChecks(ChunkLightProvider<?, ?> provider) {
+        return provider != null ? ((ChunkLightProviderAccessor) provider).vulkanmodExtra$getBlockPositionsToCheck() : null;
+    }
+
+    private static int size(LongOpenHashSet checks) {
+        return checks != null ? checks.size() : 0;
+    }
+}
@@ -0,0 +1,223 @@
+package com.criticalrange.optimization.light;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.world.chunk.light.LightingProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntSupplier;
+
+/**
+ * Client light propagation on a background thread
+ *
+ * The light engine keeps two copies of its light data: the working storage that propagation writes
+ * to, and a published copy that every light read goes through. Nibble arrays are copied on their
+ * first write after each publication, so readers never see a half-propagated section. That lets
+ * doLightUpdates run on a worker while the render thread keeps reading the last published light.
+ *
+ * While a pass runs, every call that would change the engine's state (block checks, section data
+ * from the server, column and section status) is queued and replayed in order once the pass is
+ * done. The sections the pass relit are collected instead of being scheduled for rebuild from the
+ * worker. Both happen at the next frame boundary, the render thread's next doLightUpdates call,
+ * which never waits for a pass that is still running.
+ */
+public final class OffThreadLightEngine {
+
+    // Pass handed to the worker and not yet published; render thread only
+    private static Pass inFlight = null;
+    private static LightingProvider owner = null;
+    private static final List<Runnable> deferredCalls = new ArrayList<>();
+
+    private static volatile Pass submitted = null;
+    // The pass the worker is running; worker only
+    private static Pass current = null;
+
+    private static final Object WORKER_LOCK = new Object();
+    private static Thread worker = null;
+    private static volatile boolean running = false;
+    // Set when a pass throws; light updates go back to the render thread for the rest of the session
+    private static volatile boolean failed = false;
+
+    private static volatile long lastPassNanos = 0;
+    private static volatile int lastPassSections = 0;
+    private static volatile int lastDeferredCalls = 0;
+    private static volatile long passes = 0;
+
+    private OffThreadLightEngine() {
+    }
+
+    public static boolean isEnabled() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return !failed && config != null && config.renderSettings != null && config.renderSettings.offThreadLighting;
+    }
+
+    /**
+     * Whether a doLightUpdates call goes through this class: on the render thread while the mode is
+     * on, or while a pass started before it was switched off still has to be published
+     */
+    public static boolean handles() {
+        return (inFlight != null || isEnabled()) && MinecraftClient.getInstance().isOnThread();
+    }
+
+    /**
+     * Whether a call changing the provider's state has to wait for the running pass
+     */
+    public static boolean isBusy(LightingProvider provider) {
+        return inFlight != null && owner == provider && MinecraftClient.getInstance().isOnThread();
+    }
+
+    /**
+     * Queue a state change until the running pass is published
+     */
+    public static void defer(Runnable call) {
+        deferredCalls.add(call);
+    }
+
+    /**
+     * Called by the chunk manager's light update callback; on the worker the section is recorded for the
+     * next publication instead of being scheduled for rebuild right away. Returns whether it was recorded.
+     */
+    public static boolean recordChangedSection(long sectionPos, Runnable notify) {
+        Pass pass = current;
+        if (pass == null || Thread.currentThread() != worker) {
+            return false;
+        }
+        if (pass.changedSections.add(sectionPos)) {
+            pass.notifications.add(notify);
+        }
+        return true;
+    }
+
+    /**
+     * Frame boundary: publish the finished pass and start the next one. Returns what the vanilla update
+     * returned when it ran on this thread, 0 when it runs on the worker.
+     */
+    public static int doLightUpdates(LightingProvider provider, IntSupplier update) {
+        Pass pass = inFlight;
+        if (pass != null) {
+            if (owner != provider) {
+                // The world changed; what the old pass changed is of no use anymore
+                awaitPass(pass);
+                clear();
+            } else {
+                if (!pass.done) {
+                    if (isEnabled()) {
+                        return 0;
+                    }
+                    awaitPass(pass);
+                }
+                publish(pass);
+            }
+        }
+
+        if (!isEnabled()) {
+            return update.getAsInt();
+        }
+        if (!provider.hasUpdates()) {
+            return 0;
+        }
+        ensureWorker();
+        pass = new Pass(update);
+        inFlight = pass;
+        owner = provider;
+        submitted = pass;
+        LockSupport.unpark(worker);
+        return 0;
+    }
+
+    public static String getDiagnosticInfo() {
+        if (!isEnabled()) {
+            return failed ? "Off-Thread Lighting: disabled after an error\n" : "";
+        }
+        return String.format("Off-Thread Lighting: last pass %.2f ms, %d sections relit, %d calls deferred, %d passes\n",
+            lastPassNanos / 1_000_000.0, lastPassSections, lastDeferredCalls, passes);
+    }
+
+    // Render thread; the pass is done, so the provider is ours again
+    private static void publish(Pass pass) {
+        inFlight = null;
+        owner = null;
+        if (pass.error != null) {
+            VulkanModExtra.LOGGER.warn("Off-thread light update failed, running light updates on the render thread for this session", pass.error);
+            failed = true;
+        }
+        for (Runnable notify : pass.notifications) {
+            notify.run();
+        }
+        lastPassSections = pass.changedSections.size();
+        lastDeferredCalls = deferredCalls.size();
+        for (Runnable call : deferredCalls) {
+            call.run();
+        }
+        deferredCalls.clear();
+    }
+
+    private static void clear() {
+        inFlight = null;
+        owner = null;
+        deferredCalls.clear();
+    }
+
+    private static void awaitPass(Pass pass) {
+        while (!pass.done) {
+            LockSupport.parkNanos(50_000L);
+        }
+    }
+
+    private static void ensureWorker() {
+        if (running) {
+            return;
+        }
+        synchronized (WORKER_LOCK) {
+            if (running) {
+                return;
+            }
+            running = true;
+            worker = new Thread(OffThreadLightEngine::runWorker, "VulkanMod Extra Light");
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    private static void runWorker() {
+        while (running) {
+            Pass pass = submitted;
+            if (pass == null) {
+                LockSupport.park();
+                continue;
+            }
+            submitted = null;
+            current = pass;
+            try {
+                long start = System.nanoTime();
+                pass.update.getAsInt();
+                lastPassNanos = System.nanoTime() - start;
+                passes++;
+            } catch (Throwable t) {
+                pass.error = t;
+            } finally {
+                current = null;
+                pass.done = true;
+            }
+        }
+    }
+
+    /**
+     * One doLightUpdates call on the worker and the sections it relit
+     */
+    private static final class Pass {
+        final IntSupplier update;
+        final LongOpenHashSet changedSections = new LongOpenHashSet();
+        final List<Runnable> notifications = new ArrayList<>();
+        Throwable error;
+        volatile boolean done = false;
+
+        Pass(IntSupplier update) {
+            this.update = update;
+        }
+    }
+}
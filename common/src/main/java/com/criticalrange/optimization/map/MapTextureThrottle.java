@@ -0,0 +1,86 @@
+package com.criticalrange.optimization.map;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+
+/**
+ * Map texture upload throttling
+ *
+ * Vanilla rebuilds and uploads a map texture the next time the map is drawn after any change to
+ * its colors, so only maps that are actually rendered - in a visible item frame or in hand - are
+ * ever updated. In map art halls with animated or frequently refreshed maps that can still mean
+ * dozens of 128x128 uploads per frame. This class spaces out the uploads of each map and caps
+ * the uploads across all maps per game tick; a deferred map keeps its pending update and shows
+ * its previous contents until it gets a slot.
+ *
+ * Ticks are 50 ms wall-clock buckets so the cap also holds while the game is paused.
+ * Map textures are drawn on the render thread only.
+ */
+public final class MapTextureThrottle {
+    public static final long NEVER_UPLOADED = Long.MIN_VALUE;
+    private static final long TICK_NANOS = 50_000_000L;
+
+    private static long tick = 0;
+    private static int uploadsThisTick = 0;
+    private static int uploadsLastTick = 0;
+
+    private static long uploads = 0;
+    private static long deferred = 0;
+
+    private MapTextureThrottle() {
+    }
+
+    /**
+     * Current tick, to be stored by a map texture when it uploads
+     */
+    public static long getCurrentTick() {
+        return System.nanoTime() / TICK_NANOS;
+    }
+
+    /**
+     * Whether a map texture with a pending update may upload now.
+     * A map that has never been uploaded only waits for the per-tick cap.
+     */
+    public static boolean tryUpload(long lastUploadTick) {
+        long now = getCurrentTick();
+        if (now != tick) {
+            uploadsLastTick = now - tick == 1 ? uploadsThisTick : 0;
+            uploadsThisTick = 0;
+            tick = now;
+        }
+
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        if (config != null && config.renderSettings != null) {
+            VulkanModExtraConfig.RenderSettings settings = config.renderSettings;
+            boolean tooSoon = lastUploadTick != NEVER_UPLOADED && now - lastUploadTick < settings.mapUpdateInterval;
+            boolean overCap = settings.maxMapUploadsPerTick > 0 && uploadsThisTick >= settings.maxMapUploadsPerTick;
+            if (tooSoon || overCap) {
+                deferred++;
+                return false;
+            }
+        }
+
+        uploadsThisTick++;
+        uploads++;
+        return true;
+    }
+
+    /**
+     * Map texture uploads during the last completed tick
+     */
+    public static int getUploadsLastTick() {
+        long now = getCurrentTick();
+        if (now == tick) {
+            return uploadsLastTick;
+        }
+        return now - tick == 1 ? uploadsThisTick : 0;
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        return String.format("Map Textures: %d uploads last tick, %d uploads and %d deferred in total\n",
+            getUploadsLastTick(), uploads, deferred);
+    }
+}
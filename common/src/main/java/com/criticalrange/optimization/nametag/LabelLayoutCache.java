@@ -0,0 +1,110 @@
+package com.criticalrange.optimization.nametag;
+
+import com.criticalrange.optimization.FrameState;
+import com.criticalrange.optimization.texture.ResourceGeneration;
+import net.minecraft.client.font.TextRenderer;
+import net.minecraft.text.MutableText;
+import net.minecraft.text.OrderedText;
+import net.minecraft.text.Text;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Layout cache for name tag text
+ *
+ * Vanilla lays out every name tag from scratch every frame: it measures the text to center it
+ * and converts it to an ordered glyph sequence once for each of its two draw passes. Labels
+ * rarely change, so the measured width and the ordered text are kept per unique label. Text
+ * compares by content and style, so a label whose text changes simply misses the cache and the
+ * stale entry ages out of the LRU. Widths depend on the loaded fonts and are re-measured after
+ * {@link #WIDTH_TTL_FRAMES} frames. Translated labels depend on the language, so the whole cache is
+ * dropped after a resource reload, which language and resource pack changes both trigger.
+ *
+ * Only the render thread calls into this class.
+ */
+public final class LabelLayoutCache {
+    private static final int MAX_ENTRIES = 512;
+    private static final int WIDTH_TTL_FRAMES = 600;
+
+    private static final Map<Text, Layout> LAYOUTS = new LinkedHashMap<>(64, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Text, Layout> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private static int generation = -1;
+    private static long hits = 0;
+    private static long misses = 0;
+
+    private LabelLayoutCache() {
+    }
+
+    /**
+     * Width of a label in pixels, measured once per unique label
+     */
+    public static int getWidth(TextRenderer textRenderer, Text text) {
+        Layout layout = getLayout(text);
+        long frame = FrameState.getFrameIndex();
+        if (layout.width < 0 || frame - layout.widthFrame > WIDTH_TTL_FRAMES) {
+            layout.width = textRenderer.getWidth(text);
+            layout.widthFrame = frame;
+        }
+        return layout.width;
+    }
+
+    /**
+     * Ordered glyph sequence of a label, converted once per unique label
+     */
+    public static OrderedText getOrderedText(Text text) {
+        return getLayout(text).orderedText;
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        long lookups = hits + misses;
+        return String.format("Label Layout Cache: %d labels, %.1f%% hits (%d lookups)\n",
+            LAYOUTS.size(), lookups == 0 ? 0.0 : hits * 100.0 / lookups, lookups);
+    }
+
+    private static Layout getLayout(Text text) {
+        int currentGeneration = ResourceGeneration.get();
+        if (currentGeneration != generation) {
+            LAYOUTS.clear();
+            generation = currentGeneration;
+        }
+
+        Layout layout = LAYOUTS.get(text);
+        if (layout != null) {
+            hits++;
+            return layout;
+        }
+        misses++;
+        // Labels are usually built fresh every frame and may be appended to later, so the key copies
+        // the whole sibling tree; the contents themselves are immutable
+        layout = new Layout(text.asOrderedText());
+        LAYOUTS.put(deepCopy(text), layout);
+        return layout;
+    }
+
+    private static MutableText deepCopy(Text text) {
+        MutableText copy = MutableText.of(text.getContent()).setStyle(text.getStyle());
+        for (Text sibling : text.getSiblings()) {
+            copy.append(deepCopy(sibling));
+        }
+        return copy;
+    }
+
+    private static final class Layout {
+        final OrderedText orderedText;
+        int width = -1;
+        long widthFrame;
+
+        Layout(OrderedText orderedText) {
+            this.orderedText = orderedText;
+        }
+    }
+}
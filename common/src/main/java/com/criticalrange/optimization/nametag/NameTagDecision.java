@@ -0,0 +1,92 @@
+package com.criticalrange.optimization.nametag;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.optimization.FrameCounter;
+import com.criticalrange.optimization.occlusion.OcclusionCuller;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.decoration.ArmorStandEntity;
+import net.minecraft.entity.decoration.ItemFrameEntity;
+import net.minecraft.entity.player.PlayerEntity;
+
+/**
+ * Name tag visibility decision
+ *
+ * Every hasLabel hook asks {@link #shouldShowLabel} after vanilla's own checks would run: the
+ * per-type toggles come first, then the name tag distance, then occlusion by the last occlusion
+ * culling pass. Everything is a field read or a compare, so the decision stays cheap on servers
+ * with dozens of hologram armor stands.
+ *
+ * Only the render thread calls into this class.
+ */
+public final class NameTagDecision {
+    // Passed by hooks whose hasLabel has no distance parameter (1.21/1.21.1)
+    public static final double UNKNOWN_DISTANCE = -1.0;
+
+    private static final FrameCounter HIDDEN_BY_DISTANCE = new FrameCounter();
+    private static final FrameCounter HIDDEN_BY_OCCLUSION = new FrameCounter();
+
+    private NameTagDecision() {
+    }
+
+    /**
+     * Whether the entity's name tag may be drawn
+     *
+     * @param squaredDistance squared distance from the camera, or {@link #UNKNOWN_DISTANCE}
+     */
+    public static boolean shouldShowLabel(Entity entity, double squaredDistance) {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        if (config == null || config.renderSettings == null) {
+            return true;
+        }
+        VulkanModExtraConfig.RenderSettings settings = config.renderSettings;
+
+        if (entity instanceof PlayerEntity && !settings.playerNameTag
+            || entity instanceof ArmorStandEntity && !settings.armorStandNameTag
+            || entity instanceof ItemFrameEntity && !settings.itemFrameNameTag) {
+            return false;
+        }
+
+        if (settings.nameTagDistance > 0) {
+            if (squaredDistance < 0.0) {
+                squaredDistance = getSquaredDistanceToCamera(entity);
+            }
+            double maxDistance = settings.nameTagDistance;
+            if (squaredDistance > maxDistance * maxDistance) {
+                HIDDEN_BY_DISTANCE.increment();
+                return false;
+            }
+        }
+
+        if (settings.nameTagOcclusion && OcclusionCuller.isEntityHidden(entity)) {
+            HIDDEN_BY_OCCLUSION.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Whether name tag occlusion needs the occlusion culler to test entities
+     */
+    public static boolean isOcclusionRequested() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return config != null && config.renderSettings != null && config.renderSettings.nameTagOcclusion;
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        return String.format("Name Tags: %d hidden by distance and %d by occlusion last frame\n",
+            HIDDEN_BY_DISTANCE.getLastFrame(), HIDDEN_BY_OCCLUSION.getLastFrame());
+    }
+
+    private static double getSquaredDistanceToCamera(Entity entity) {
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client.gameRenderer == null) {
+            return 0.0;
+        }
+        return entity.squaredDistanceTo(client.gameRenderer.getCamera().getPos());
+    }
+}
@@ -0,0 +1,194 @@
+package com.criticalrange.optimization.occlusion;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+
+import java.util.Random;
+
+/**
+ * Synthetic-world benchmark for the occlusion ray caster
+ *
+ * Builds three generated worlds - an open field, a cave network and a base of walled rooms -
+ * scatters mob-sized targets around the camera and times {@link OcclusionRaycaster#isBoxVisible}
+ * over all of them. Runs once on the occlusion worker when culling starts with debug logging
+ * enabled; the results are logged and shown in the diagnostics.
+ */
+public final class OcclusionBenchmark {
+    private static final int SIZE_XZ = 160;
+    private static final int SIZE_Y = 64;
+    private static final int TARGETS = 2000;
+    private static final int ROUNDS = 5;
+    private static final long SEED = 0x5eed_0cc1L;
+
+    private static volatile String summary = null;
+
+    private OcclusionBenchmark() {
+    }
+
+    public static boolean isRequested() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return summary == null && config != null && config.coreSettings != null && config.coreSettings.enableDebugLogging;
+    }
+
+    /**
+     * Run the benchmark over every synthetic world and return the summary
+     */
+    public static String run() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(measure("open field", openField()));
+        sb.append(", ").append(measure("caves", caves()));
+        sb.append(", ").append(measure("rooms", rooms()));
+        String result = sb.toString();
+        summary = result;
+        VulkanModExtra.LOGGER.info("Occlusion benchmark: {}", result);
+        return result;
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        String result = summary;
+        return result == null ? "" : "Occlusion Benchmark: " + result + "\n";
+    }
+
+    private static String measure(String name, SyntheticWorld world) {
+        Random random = new Random(SEED);
+        double cameraX = world.cameraX + 0.5;
+        double cameraY = world.cameraY + 1.6;
+        double cameraZ = world.cameraZ + 0.5;
+
+        double[] targets = new double[TARGETS * 3];
+        int placed = 0;
+        while (placed < TARGETS) {
+            int x = world.cameraX + random.nextInt(129) - 64;
+            int y = world.cameraY + random.nextInt(33) - 16;
+            int z = world.cameraZ + random.nextInt(129) - 64;
+            int dx = x - world.cameraX;
+            int dz = z - world.cameraZ;
+            int distanceSq = dx * dx + dz * dz;
+            if (y < 1 || y >= SIZE_Y - 2 || distanceSq < 16 || distanceSq > 64 * 64 || world.isOpaque(x, y, z) || world.isOpaque(x, y + 1, z)) {
+                continue;
+            }
+            targets[placed * 3] = x + 0.5;
+            targets[placed * 3 + 1] = y;
+            targets[placed * 3 + 2] = z + 0.5;
+            placed++;
+        }
+
+        int hidden = 0;
+        long bestNanos = Long.MAX_VALUE;
+        // The first round only warms up the JIT
+        for (int round = 0; round <= ROUNDS; round++) {
+            hidden = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < TARGETS; i++) {
+                double x = targets[i * 3];
+                double y = targets[i * 3 + 1];
+                double z = targets[i * 3 + 2];
+                if (!OcclusionRaycaster.isBoxVisible(world, cameraX, cameraY, cameraZ, x - 0.3, y, z - 0.3, x + 0.3, y + 1.8, z + 0.3)) {
+                    hidden++;
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            if (round > 0) {
+                bestNanos = Math.min(bestNanos, elapsed);
+            }
+        }
+        return String.format("%s %d/%d hidden, %.2f us/target", name, hidden, TARGETS, bestNanos / 1000.0 / TARGETS);
+    }
+
+    private static SyntheticWorld openField() {
+        SyntheticWorld world = new SyntheticWorld(SIZE_XZ / 2, 17, SIZE_XZ / 2);
+        world.fill(0, 0, 0, SIZE_XZ - 1, 16, SIZE_XZ - 1, true);
+        return world;
+    }
+
+    private static SyntheticWorld caves() {
+        SyntheticWorld world = new SyntheticWorld(SIZE_XZ / 2, SIZE_Y / 2, SIZE_XZ / 2);
+        world.fill(0, 0, 0, SIZE_XZ - 1, SIZE_Y - 1, SIZE_XZ - 1, true);
+
+        // Random-walk tunnels, the first one starting at the camera
+        Random random = new Random(SEED);
+        for (int tunnel = 0; tunnel < 40; tunnel++) {
+            double x = tunnel == 0 ? world.cameraX : random.nextInt(SIZE_XZ);
+            double y = tunnel == 0 ? world.cameraY : 8 + random.nextInt(SIZE_Y - 16);
+            double z = tunnel == 0 ? world.cameraZ : random.nextInt(SIZE_XZ);
+            double yaw = random.nextDouble() * Math.PI * 2;
+            double pitch = 0;
+            for (int step = 0; step < 120; step++) {
+                yaw += (random.nextDouble() - 0.5) * 0.5;
+                pitch = Math.max(-0.6, Math.min(0.6, pitch + (random.nextDouble() - 0.5) * 0.3));
+                x += Math.cos(yaw) * Math.cos(pitch);
+                y += Math.sin(pitch);
+                z += Math.sin(yaw) * Math.cos(pitch);
+                int ix = (int) x;
+                int iy = (int) y;
+                int iz = (int) z;
+                world.fill(ix - 1, iy - 1, iz - 1, ix + 1, iy + 2, iz + 1, false);
+            }
+        }
+        return world;
+    }
+
+    private static SyntheticWorld rooms() {
+        SyntheticWorld world = new SyntheticWorld(SIZE_XZ / 2 + 4, 1, SIZE_XZ / 2 + 4);
+        for (int floor = 0; floor < SIZE_Y; floor += 6) {
+            world.fill(0, floor, 0, SIZE_XZ - 1, floor, SIZE_XZ - 1, true);
+        }
+        for (int wall = 0; wall < SIZE_XZ; wall += 8) {
+            world.fill(wall, 0, 0, wall, SIZE_Y - 1, SIZE_XZ - 1, true);
+            world.fill(0, 0, wall, SIZE_XZ - 1, SIZE_Y - 1, wall, true);
+        }
+        // A doorway in the middle of every wall segment
+        for (int floor = 0; floor < SIZE_Y - 6; floor += 6) {
+            for (int wall = 0; wall < SIZE_XZ; wall += 8) {
+                for (int room = 4; room < SIZE_XZ; room += 8) {
+                    world.fill(wall, floor + 1, room, wall, floor + 2, room, false);
+                    world.fill(room, floor + 1, wall, room, floor + 2, wall, false);
+                }
+            }
+        }
+        return world;
+    }
+
+    /**
+     * Bit grid of opaque blocks; everything outside the grid is open
+     */
+    private static final class SyntheticWorld implements VoxelOccupancy {
+        final int cameraX;
+        final int cameraY;
+        final int cameraZ;
+        private final long[] bits = new long[(SIZE_XZ * SIZE_Y * SIZE_XZ + 63) >>> 6];
+
+        SyntheticWorld(int cameraX, int cameraY, int cameraZ) {
+            this.cameraX = cameraX;
+            this.cameraY = cameraY;
+            this.cameraZ = cameraZ;
+        }
+
+        void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, boolean opaque) {
+            for (int x = Math.max(0, minX); x <= Math.min(SIZE_XZ - 1, maxX); x++) {
+                for (int y = Math.max(0, minY); y <= Math.min(SIZE_Y - 1, maxY); y++) {
+                    for (int z = Math.max(0, minZ); z <= Math.min(SIZE_XZ - 1, maxZ); z++) {
+                        int index = (y * SIZE_XZ + z) * SIZE_XZ + x;
+                        if (opaque) {
+                            bits[index >>> 6] |= 1L << index;
+                        } else {
+                            bits[index >>> 6] &= ~(1L << index);
+                        }
+                    }
+                }
+            }
+        }
+
+        @Override
+        public boolean isOpaque(int x, int y, int z) {
+            if (x < 0 || y < 0 || z < 0 || x >= SIZE_XZ || y >= SIZE_Y || z >= SIZE_XZ) {
+                return false;
+            }
+            int index = (y * SIZE_XZ + z) * SIZE_XZ + x;
+            return (bits[index >>> 6] & 1L << index) != 0;
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package com.criticalrange.optimization.occlusion;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.optimization.FrameCounter;
+import com.criticalrange.optimization.FrameState;
+import com.criticalrange.optimization.nametag.NameTagDecision;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.block.entity.BeaconBlockEntity;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.EndGatewayBlockEntity;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous occlusion culling for entities and block entities
+ *
+ * The renderers hand every entity and block entity that passed the frustum test to this class.
+ * At the start of the next frame the collected boxes are passed to a background thread, which ray
+ * casts from the camera to each box through a {@link WorldOccupancySnapshot} and publishes the
+ * set of hidden targets. The renderers read the last published set without locking; a set stays
+ * in use for up to {@link #MAX_RESULT_AGE} frames while the next pass runs, and is ignored after
+ * that so a stalled worker never keeps anything hidden.
+ *
+ * Targets close to the camera or far away are never culled: the former pop in too visibly,
+ * the latter make rays long and the snapshot large. Name tag occlusion reads the same results,
+ * so entities are tested while either feature is on.
+ */
+public final class OcclusionCuller {
+    private static final double MIN_DISTANCE_SQ = 4.0 * 4.0;
+    private static final double MAX_DISTANCE_SQ = 96.0 * 96.0;
+    private static final int MAX_RESULT_AGE = 3;
+
+    private static final FrameCounter CULLED_ENTITIES = new FrameCounter();
+    private static final FrameCounter CULLED_BLOCK_ENTITIES = new FrameCounter();
+
+    // Filled by the render thread during a frame, handed to the worker at the start of the next one
+    private static TargetBuffer collecting = new TargetBuffer();
+    private static final ConcurrentLinkedQueue<TargetBuffer> FREE_BUFFERS = new ConcurrentLinkedQueue<>();
+    private static volatile TargetBuffer pending = null;
+    private static volatile Result published = null;
+
+    private static final Object WORKER_LOCK = new Object();
+    private static Thread worker = null;
+    private static volatile boolean running = false;
+    // Set when a pass throws; culling stays off for the rest of the session
+    private static volatile boolean failed = false;
+
+    // Worker statistics, written by the worker only
+    private static volatile int lastPassTargets = 0;
+    private static volatile int lastPassHidden = 0;
+    private static volatile long lastPassNanos = 0;
+    private static volatile int cachedSections = 0;
+    private static volatile long passes = 0;
+
+    private OcclusionCuller() {
+    }
+
+    public static boolean isEnabled() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return !failed && config != null && config.optimizationSettings != null && config.optimizationSettings.occlusionCulling;
+    }
+
+    /**
+     * Whether culling passes run at all, for occlusion culling or for name tag occlusion
+     */
+    public static boolean isActive() {
+        return isEnabled() || !failed && NameTagDecision.isOcclusionRequested();
+    }
+
+    /**
+     * Hand the targets collected during the last frame to the worker, if it is idle
+     */
+    public static void beginFrame(MinecraftClient client) {
+        if (!isActive() || client.world == null || client.gameRenderer == null) {
+            collecting.clear();
+            published = null;
+            return;
+        }
+        ensureWorker();
+        Result result = published;
+        if (result != null && result.world() != client.world) {
+            published = null;
+        }
+
+        if (pending == null && collecting.size > 0) {
+            Vec3d camera = client.gameRenderer.getCamera().getPos();
+            collecting.world = client.world;
+            collecting.frame = FrameState.getFrameIndex();
+            collecting.cameraX = camera.x;
+            collecting.cameraY = camera.y;
+            collecting.cameraZ = camera.z;
+            pending = collecting;
+            LockSupport.unpark(worker);
+
+            TargetBuffer next = FREE_BUFFERS.poll();
+            collecting = next != null ? next : new TargetBuffer();
+        } else {
+            // The worker is still busy; start over so the next pass sees fresh positions
+            collecting.clear();
+        }
+    }
+
+    /**
+     * Whether an entity that passed the frustum test is hidden behind blocks.
+     * Also queues the entity for the next culling pass.
+     */
+    public static boolean isEntityOccluded(Entity entity, double cameraX, double cameraY, double cameraZ) {
+        if (!isActive() || entity.isGlowing()) {
+            return false;
+        }
+        Box box = entity.getBoundingBox();
+        if (!isInCullingRange(box.minX, box.minY, box.minZ, box.maxX, box.maxY, box.maxZ, cameraX, cameraY, cameraZ)) {
+            return false;
+        }
+        collecting.add(TargetBuffer.ENTITY, entity.getId(), box.minX, box.minY, box.minZ, box.maxX, box.maxY, box.maxZ);
+
+        if (isEnabled() && isEntityHidden(entity)) {
+            CULLED_ENTITIES.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Whether the last culling pass found the entity hidden, regardless of whether occlusion culling is on
+     */
+    public static boolean isEntityHidden(Entity entity) {
+        Result result = getResult();
+        return result != null && result.entities().contains(entity.getId());
+    }
+
+    /**
+     * Whether a block entity that passed its distance test is hidden behind blocks.
+     * Also queues the block entity for the next culling pass.
+     */
+    public static boolean isBlockEntityOccluded(BlockEntity blockEntity, Vec3d cameraPos) {
+        // Beams reach far outside the block
+        if (!isEnabled() || blockEntity instanceof BeaconBlockEntity || blockEntity instanceof EndGatewayBlockEntity) {
+            return false;
+        }
+        BlockPos pos = blockEntity.getPos();
+        int x = pos.getX();
+        int y = pos.getY();
+        int z = pos.getZ();
+        if (!isInCullingRange(x, y, z, x + 1, y + 1, z + 1, cameraPos.x, cameraPos.y, cameraPos.z)) {
+            return false;
+        }
+        long key = pos.asLong();
+        collecting.add(TargetBuffer.BLOCK_ENTITY, key, x, y, z, x + 1, y + 1, z + 1);
+
+        Result result = getResult();
+        if (result != null && result.blockEntities().contains(key)) {
+            CULLED_BLOCK_ENTITIES.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Stop the worker thread and drop all culling state
+     */
+    public static void shutdown() {
+        Thread thread;
+        synchronized (WORKER_LOCK) {
+            running = false;
+            thread = worker;
+            worker = null;
+        }
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+        pending = null;
+        published = null;
+    }
+
+    public static int getCulledEntitiesLastFrame() {
+        return CULLED_ENTITIES.getLastFrame();
+    }
+
+    public static int getCulledBlockEntitiesLastFrame() {
+        return CULLED_BLOCK_ENTITIES.getLastFrame();
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        if (!isActive()) {
+            return "Occlusion Culling: disabled\n" + OcclusionBenchmark.getDiagnosticInfo();
+        }
+        return String.format("Occlusion Culling: %d entities and %d block entities culled last frame, "
+                + "last pass %d/%d hidden in %.2f ms, %d sections cached, %d passes\n",
+            getCulledEntitiesLastFrame(), getCulledBlockEntitiesLastFrame(), lastPassHidden, lastPassTargets,
+            lastPassNanos / 1_000_000.0, cachedSections, passes) + OcclusionBenchmark.getDiagnosticInfo();
+    }
+
+    private static boolean isInCullingRange(double minX, double minY, double minZ, double maxX, double maxY, double maxZ,
+                                            double cameraX, double cameraY, double cameraZ) {
+        double dx = Math.max(0.0, Math.max(minX - cameraX, cameraX - maxX));
+        double dy = Math.max(0.0, Math.max(minY - cameraY, cameraY - maxY));
+        double dz = Math.max(0.0, Math.max(minZ - cameraZ, cameraZ - maxZ));
+        double distanceSq = dx * dx + dy * dy + dz * dz;
+        return distanceSq >= MIN_DISTANCE_SQ && distanceSq <= MAX_DISTANCE_SQ;
+    }
+
+    private static Result getResult() {
+        Result result = published;
+        if (result == null || FrameState.getFrameIndex() - result.frame() > MAX_RESULT_AGE) {
+            return null;
+        }
+        return result;
+    }
+
+    private static void ensureWorker() {
+        if (running) {
+            return;
+        }
+        synchronized (WORKER_LOCK) {
+            if (running) {
+                return;
+            }
+            running = true;
+            worker = new Thread(OcclusionCuller::runWorker, "VulkanMod Extra Occlusion");
+            worker.setDaemon(true);
+            worker.setPriority(Thread.NORM_PRIORITY - 1);
+            worker.start();
+        }
+    }
+
+    private static void runWorker() {
+        WorldOccupancySnapshot snapshot = new WorldOccupancySnapshot();
+        if (OcclusionBenchmark.isRequested()) {
+            OcclusionBenchmark.run();
+        }
+
+        while (running) {
+            TargetBuffer job = pending;
+            if (job == null) {
+                LockSupport.park();
+                continue;
+            }
+            try {
+                long start = System.nanoTime();
+                snapshot.begin(job.world, start);
+                published = cull(job, snapshot);
+                lastPassNanos = System.nanoTime() - start;
+                lastPassTargets = job.size;
+                cachedSections = snapshot.getSectionCount();
+                passes++;
+            } catch (Throwable t) {
+                // Most likely a mapping mismatch on this version - stop culling rather than hide things wrongly
+                VulkanModExtra.LOGGER.warn("Occlusion culling failed, disabling it for this session", t);
+                failed = true;
+                published = null;
+            } finally {
+                job.clear();
+                FREE_BUFFERS.offer(job);
+                pending = null;
+            }
+        }
+        snapshot.clear();
+    }
+
+    private static Result cull(TargetBuffer job, WorldOccupancySnapshot snapshot) {
+        IntOpenHashSet entities = new IntOpenHashSet();
+        LongOpenHashSet blockEntities = new LongOpenHashSet();
+        double[] bounds = job.bounds;
+        for (int i = 0; i < job.size; i++) {
+            int b = i * 6;
+            boolean visible = OcclusionRaycaster.isBoxVisible(snapshot, job.cameraX, job.cameraY, job.cameraZ,
+                bounds[b], bounds[b + 1], bounds[b + 2], bounds[b + 3], bounds[b + 4], bounds[b + 5]);
+            if (!visible) {
+                if (job.kinds[i] == TargetBuffer.ENTITY) {
+                    entities.add((int) job.keys[i]);
+                } else {
+                    blockEntities.add(job.keys[i]);
+                }
+            }
+        }
+        lastPassHidden = entities.size() + blockEntities.size();
+        return new Result(job.world, job.frame, entities, blockEntities);
+    }
+
+    /**
+     * Targets hidden in one culling pass; never modified after publication
+     */
+    private record Result(ClientWorld world, long frame, IntOpenHashSet entities, LongOpenHashSet blockEntities) {
+    }
+
+    /**
+     * Growable flat arrays of target keys and boxes, reused between passes
+     */
+    private static final class TargetBuffer {
+        static final byte ENTITY = 0;
+        static final byte BLOCK_ENTITY = 1;
+
+        ClientWorld world;
+        long frame;
+        double cameraX;
+        double cameraY;
+        double cameraZ;
+        byte[] kinds = new byte[256];
+        long[] keys = new long[256];
+        double[] bounds = new double[256 * 6];
+        int size = 0;
+
+        void add(byte kind, long key, double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+            if (size == keys.length) {
+                kinds = Arrays.copyOf(kinds, size * 2);
+                keys = Arrays.copyOf(keys, size * 2);
+                bounds = Arrays.copyOf(bounds, size * 12);
+            }
+            kinds[size] = kind;
+            keys[size] = key;
+            int b = size * 6;
+            bounds[b] = minX;
+            bounds[b + 1] = minY;
+            bounds[b + 2] = minZ;
+            bounds[b + 3] = maxX;
+            bounds[b + 4] = maxY;
+            bounds[b + 5] = maxZ;
+            size++;
+        }
+
+        void clear() {
+            world = null;
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.criticalrange.optimization.occlusion;
+
+/**
+ * Sight line tests against a {@link VoxelOccupancy} grid
+ *
+ * A box counts as visible when any ray from the camera to one of its eight corners or its center
+ * reaches the box without crossing an opaque block. Rays walk the grid block by block
+ * (Amanatides-Woo traversal), so a test costs at most the Manhattan length of the ray in blocks.
+ */
+public final class OcclusionRaycaster {
+    // Corners are pulled this far into the box so they fall inside the box's own blocks
+    private static final double CORNER_INSET = 0.05;
+
+    private OcclusionRaycaster() {
+    }
+
+    /**
+     * Whether any part of the box can be seen from the camera position
+     */
+    public static boolean isBoxVisible(VoxelOccupancy occupancy, double cameraX, double cameraY, double cameraZ,
+                                       double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        if (cameraX >= minX && cameraX <= maxX && cameraY >= minY && cameraY <= maxY && cameraZ >= minZ && cameraZ <= maxZ) {
+            return true;
+        }
+
+        double x0 = Math.min(minX + CORNER_INSET, maxX);
+        double y0 = Math.min(minY + CORNER_INSET, maxY);
+        double z0 = Math.min(minZ + CORNER_INSET, maxZ);
+        double x1 = Math.max(maxX - CORNER_INSET, minX);
+        double y1 = Math.max(maxY - CORNER_INSET, minY);
+        double z1 = Math.max(maxZ - CORNER_INSET, minZ);
+
+        // The center first: it is the most likely ray to get through a gap
+        if (isPointVisible(occupancy, cameraX, cameraY, cameraZ, (minX + maxX) * 0.5, (minY + maxY) * 0.5, (minZ + maxZ) * 0.5)) {
+            return true;
+        }
+        for (int corner = 0; corner < 8; corner++) {
+            double x = (corner & 1) == 0 ? x0 : x1;
+            double y = (corner & 2) == 0 ? y0 : y1;
+            double z = (corner & 4) == 0 ? z0 : z1;
+            if (isPointVisible(occupancy, cameraX, cameraY, cameraZ, x, y, z)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether the straight line between two points crosses no opaque block.
+     * The blocks containing the start and end points are not tested.
+     */
+    public static boolean isPointVisible(VoxelOccupancy occupancy, double fromX, double fromY, double fromZ,
+                                         double toX, double toY, double toZ) {
+        int x = (int) Math.floor(fromX);
+        int y = (int) Math.floor(fromY);
+        int z = (int) Math.floor(fromZ);
+        int endX = (int) Math.floor(toX);
+        int endY = (int) Math.floor(toY);
+        int endZ = (int) Math.floor(toZ);
+
+        double dx = toX - fromX;
+        double dy = toY - fromY;
+        double dz = toZ - fromZ;
+        int stepX = dx > 0 ? 1 : -1;
+        int stepY = dy > 0 ? 1 : -1;
+        int stepZ = dz > 0 ? 1 : -1;
+        double deltaX = dx != 0 ? Math.abs(1.0 / dx) : Double.POSITIVE_INFINITY;
+        double deltaY = dy != 0 ? Math.abs(1.0 / dy) : Double.POSITIVE_INFINITY;
+        double deltaZ = dz != 0 ? Math.abs(1.0 / dz) : Double.POSITIVE_INFINITY;
+        double nextX = dx > 0 ? (x + 1 - fromX) * deltaX : dx < 0 ? (fromX - x) * deltaX : Double.POSITIVE_INFINITY;
+        double nextY = dy > 0 ? (y + 1 - fromY) * deltaY : dy < 0 ? (fromY - y) * deltaY : Double.POSITIVE_INFINITY;
+        double nextZ = dz > 0 ? (z + 1 - fromZ) * deltaZ : dz < 0 ? (fromZ - z) * deltaZ : Double.POSITIVE_INFINITY;
+
+        int steps = Math.abs(endX - x) + Math.abs(endY - y) + Math.abs(endZ - z);
+        for (int i = 0; i < steps; i++) {
+            if (nextX < nextY && nextX < nextZ) {
+                x += stepX;
+                nextX += deltaX;
+            } else if (nextY < nextZ) {
+                y += stepY;
+                nextY += deltaY;
+            } else {
+                z += stepZ;
+                nextZ += deltaZ;
+            }
+            if (x == endX && y == endY && z == endZ) {
+                return true;
+            }
+            if (occupancy.isOpaque(x, y, z)) {
+                return false;
+            }
+        }
+        // Rounding can walk past the end block on a diagonal; an unresolved ray counts as visible
+        return true;
+    }
+}
@@ -0,0 +1,12 @@
+package com.criticalrange.optimization.occlusion;
+
+/**
+ * Block-resolution occupancy grid the occlusion ray caster walks through
+ */
+public interface VoxelOccupancy {
+
+    /**
+     * Whether the block at the given position stops sight lines
+     */
+    boolean isOpaque(int x, int y, int z);
+}
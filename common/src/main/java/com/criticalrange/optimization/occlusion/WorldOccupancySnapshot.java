@@ -0,0 +1,160 @@
+package com.criticalrange.optimization.occlusion;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.Arrays;
+
+/**
+ * Coarse copy of which blocks around the camera are opaque
+ *
+ * Every chunk section a ray walks through is copied into a 4096-bit mask the first time it is
+ * needed and copied again once the copy is older than {@link #SECTION_TTL_NANOS}, so placed and
+ * broken blocks reach the culler within a second without the mask ever being read from the world
+ * on the render thread. Unloaded and missing sections are treated as empty.
+ *
+ * Owned by the occlusion worker thread; nothing here is synchronized.
+ */
+final class WorldOccupancySnapshot implements VoxelOccupancy {
+    private static final long SECTION_TTL_NANOS = 1_000_000_000L;
+    // Drop the whole cache past this many sections (about 2 MB of masks)
+    private static final int MAX_SECTIONS = 4096;
+
+    private final Long2ObjectOpenHashMap<Section> sections = new Long2ObjectOpenHashMap<>();
+    private final Reference2BooleanOpenHashMap<BlockState> occluders = new Reference2BooleanOpenHashMap<>();
+    private final BlockPos.Mutable pos = new BlockPos.Mutable();
+    private ClientWorld world = null;
+    private long passNanos = 0;
+
+    // Rays walk neighbouring blocks, so most lookups hit the section of the previous one
+    private long lastKey = Long.MIN_VALUE;
+    private Section lastSection = null;
+
+    private long sectionsCopied = 0;
+
+    /**
+     * Start a culling pass against the given world
+     */
+    void begin(ClientWorld world, long nanos) {
+        if (world != this.world || sections.size() > MAX_SECTIONS) {
+            sections.clear();
+            occluders.clear();
+            this.world = world;
+        }
+        this.passNanos = nanos;
+        this.lastKey = Long.MIN_VALUE;
+        this.lastSection = null;
+    }
+
+    /**
+     * Release the world and every cached section
+     */
+    void clear() {
+        sections.clear();
+        occluders.clear();
+        world = null;
+        lastKey = Long.MIN_VALUE;
+        lastSection = null;
+    }
+
+    int getSectionCount() {
+        return sections.size();
+    }
+
+    long getSectionsCopied() {
+        return sectionsCopied;
+    }
+
+    @Override
+    public boolean isOpaque(int x, int y, int z) {
+        long key = ChunkSectionPos.asLong(x >> 4, y >> 4, z >> 4);
+        Section section = key == lastKey ? lastSection : getSection(key, x >> 4, y >> 4, z >> 4);
+        lastKey = key;
+        lastSection = section;
+        if (section.empty) {
+            return false;
+        }
+        int index = (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+        return (section.bits[index >>> 6] & 1L << index) != 0;
+    }
+
+    private Section getSection(long key, int sectionX, int sectionY, int sectionZ) {
+        Section section = sections.get(key);
+        if (section == null) {
+            section = new Section();
+            sections.put(key, section);
+        } else if (passNanos - section.copiedNanos < SECTION_TTL_NANOS) {
+            return section;
+        }
+        copySection(section, sectionX, sectionY, sectionZ);
+        return section;
+    }
+
+    private void copySection(Section section, int sectionX, int sectionY, int sectionZ) {
+        section.copiedNanos = passNanos;
+        section.empty = true;
+        sectionsCopied++;
+
+        WorldChunk chunk = world.getChunkManager().getChunk(sectionX, sectionZ, ChunkStatus.FULL, false);
+        if (chunk == null) {
+            return;
+        }
+        ChunkSection[] chunkSections = chunk.getSectionArray();
+        int index = chunk.sectionCoordToIndex(sectionY);
+        if (index < 0 || index >= chunkSections.length) {
+            return;
+        }
+        ChunkSection chunkSection = chunkSections[index];
+        if (chunkSection == null || chunkSection.isEmpty()) {
+            return;
+        }
+
+        long[] bits = section.bits;
+        Arrays.fill(bits, 0L);
+        boolean empty = true;
+        try {
+            int baseX = sectionX << 4;
+            int baseY = sectionY << 4;
+            int baseZ = sectionZ << 4;
+            for (int i = 0; i < 4096; i++) {
+                int localX = i & 15;
+                int localZ = i >> 4 & 15;
+                int localY = i >> 8;
+                BlockState state = chunkSection.getBlockState(localX, localY, localZ);
+                if (!state.isAir() && isOccluder(state, baseX + localX, baseY + localY, baseZ + localZ)) {
+                    bits[i >>> 6] |= 1L << i;
+                    empty = false;
+                }
+            }
+        } catch (RuntimeException e) {
+            // The section was written to while being copied; treat it as empty until the next copy
+            return;
+        }
+        section.empty = empty;
+    }
+
+    /**
+     * Only full, opaque cubes block sight: glass, leaves, slabs and other partial blocks never cull
+     */
+    private boolean isOccluder(BlockState state, int x, int y, int z) {
+        if (occluders.containsKey(state)) {
+            return occluders.getBoolean(state);
+        }
+        boolean occluder = state.isOpaque() && state.isSolidBlock(world, pos.set(x, y, z));
+        occluders.put(state, occluder);
+        return occluder;
+    }
+
+    private static final class Section {
+        final long[] bits = new long[64];
+        long copiedNanos;
+        boolean empty = true;
+    }
+}
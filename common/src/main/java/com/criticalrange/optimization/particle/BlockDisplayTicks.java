@@ -0,0 +1,126 @@
+package com.criticalrange.optimization.particle;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import net.minecraft.block.AbstractCandleBlock;
+import net.minecraft.block.AbstractFireBlock;
+import net.minecraft.block.AbstractFurnaceBlock;
+import net.minecraft.block.AbstractTorchBlock;
+import net.minecraft.block.Block;
+import net.minecraft.block.CampfireBlock;
+import net.minecraft.block.EndGatewayBlock;
+import net.minecraft.block.EndPortalBlock;
+import net.minecraft.block.EnderChestBlock;
+import net.minecraft.block.LeavesBlock;
+import net.minecraft.block.NetherPortalBlock;
+import net.minecraft.block.PointedDripstoneBlock;
+import net.minecraft.block.SporeBlossomBlock;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.random.Random;
+
+/**
+ * Random block display ticks
+ *
+ * Every client tick vanilla picks 667 random positions within 16 blocks of the player and 667 within
+ * 32, and lets the block, the fluid and the biome at each one spawn ambient particles and sounds.
+ * This class scales the sample count and radius and decides per block family whether its display
+ * tick runs. The sampling loop reuses one random and one mutable position instead of allocating
+ * them every tick.
+ *
+ * Display ticks run on the client thread only.
+ */
+public final class BlockDisplayTicks {
+    public static final int VANILLA_SAMPLES = 667;
+    public static final int VANILLA_RADIUS = 32;
+    // nextInt needs a positive bound
+    private static final int MIN_RADIUS = 2;
+
+    private static final Random RANDOM = Random.create();
+    private static final BlockPos.Mutable POS = new BlockPos.Mutable();
+
+    private BlockDisplayTicks() {
+    }
+
+    public static Random getRandom() {
+        return RANDOM;
+    }
+
+    public static BlockPos.Mutable getPos() {
+        return POS;
+    }
+
+    /**
+     * Samples per radius and tick
+     */
+    public static int getSamples(int vanillaSamples) {
+        VulkanModExtraConfig.ParticleSettings settings = getSettings();
+        if (settings == null) {
+            return vanillaSamples;
+        }
+        int rate = Math.max(0, Math.min(100, settings.displayTickRate));
+        return vanillaSamples * rate / 100;
+    }
+
+    /**
+     * Sample radius; vanilla's inner radius of 16 scales with the outer one
+     */
+    public static int getRadius(int vanillaRadius) {
+        VulkanModExtraConfig.ParticleSettings settings = getSettings();
+        if (settings == null) {
+            return vanillaRadius;
+        }
+        int radius = Math.min(VANILLA_RADIUS, settings.displayTickRadius) * vanillaRadius / VANILLA_RADIUS;
+        return Math.max(MIN_RADIUS, radius);
+    }
+
+    /**
+     * Whether a block's display tick runs, by family
+     */
+    public static boolean shouldTick(Block block) {
+        VulkanModExtraConfig.ParticleSettings settings = getSettings();
+        if (settings == null) {
+            return true;
+        }
+        if (block instanceof AbstractTorchBlock || block instanceof AbstractCandleBlock) {
+            return settings.displayTickTorches;
+        }
+        if (block instanceof AbstractFireBlock || block instanceof CampfireBlock || block instanceof AbstractFurnaceBlock) {
+            return settings.displayTickFire;
+        }
+        if (block instanceof LeavesBlock) {
+            return settings.displayTickLeaves;
+        }
+        if (block instanceof SporeBlossomBlock) {
+            return settings.displayTickSporeBlossoms;
+        }
+        if (block instanceof PointedDripstoneBlock) {
+            return settings.displayTickDripstone;
+        }
+        if (block instanceof NetherPortalBlock || block instanceof EndPortalBlock
+            || block instanceof EndGatewayBlock || block instanceof EnderChestBlock) {
+            return settings.displayTickPortals;
+        }
+        return settings.displayTickOther;
+    }
+
+    /**
+     * Fluid display ticks: lava pops, water sounds and drips under fluids
+     */
+    public static boolean shouldTickFluids() {
+        VulkanModExtraConfig.ParticleSettings settings = getSettings();
+        return settings == null || settings.displayTickFluids;
+    }
+
+    /**
+     * Biome ambient particles: ash, spores and similar
+     */
+    public static boolean shouldTickBiomeAmbient() {
+        VulkanModExtraConfig.ParticleSettings settings = getSettings();
+        return settings == null || settings.displayTickBiomeAmbient;
+    }
+
+    private static VulkanModExtraConfig.ParticleSettings getSettings() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return config != null ? config.particleSettings : null;
+    }
+}
@@ -0,0 +1,125 @@
+package com.criticalrange.optimization.sky;
+
+import com.criticalrange.VulkanModExtra;
+import net.minecraft.block.enums.CameraSubmersionType;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.Camera;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.effect.StatusEffects;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.LightType;
+
+/**
+ * Automatic sky skip
+ *
+ * Decides once per frame whether anything of the sky would be visible from the camera.
+ * When the camera is deep underground, deep underwater, inside lava or powder snow, or the
+ * player is blinded, the whole sky pass (gradient, sun, moon, stars and clouds) is skipped.
+ *
+ * Hiding the sky needs the condition to hold for a number of consecutive frames and uses a
+ * stricter light threshold than showing it again, so walking along a cave mouth does not flicker.
+ * Showing the sky again is always immediate.
+ */
+public final class SkyVisibility {
+    // Frames the sky must be hidden before the pass is skipped
+    private static final int HIDE_DELAY_FRAMES = 20;
+
+    // Sky light at the camera must drop to this to hide the sky, and rise above EXIT to show it
+    private static final int UNDERGROUND_ENTER_LIGHT = 0;
+    private static final int UNDERGROUND_EXIT_LIGHT = 2;
+
+    // Underwater the sky is covered by fog once the surface is several blocks above
+    private static final int UNDERWATER_ENTER_LIGHT = 6;
+    private static final int UNDERWATER_EXIT_LIGHT = 8;
+
+    private static boolean hidden = false;
+    private static int hiddenFrames = 0;
+    private static long skippedFrames = 0;
+
+    private SkyVisibility() {
+    }
+
+    /**
+     * Whether the automatic sky skip is enabled in the config
+     */
+    public static boolean isEnabled() {
+        return VulkanModExtra.CONFIG != null && VulkanModExtra.CONFIG.optimizationSettings != null
+            && VulkanModExtra.CONFIG.optimizationSettings.autoSkySkip;
+    }
+
+    /**
+     * Refresh the visibility decision for the current frame
+     */
+    public static void update(MinecraftClient client) {
+        if (!isEnabled() || client.world == null || client.gameRenderer == null) {
+            hidden = false;
+            hiddenFrames = 0;
+            return;
+        }
+
+        boolean candidate = isSkyCovered(client.world, client.gameRenderer.getCamera());
+        if (candidate) {
+            hiddenFrames = Math.min(hiddenFrames + 1, HIDE_DELAY_FRAMES);
+        } else {
+            hiddenFrames = 0;
+        }
+        hidden = hiddenFrames >= HIDE_DELAY_FRAMES;
+
+        if (hidden) {
+            skippedFrames++;
+        }
+    }
+
+    /**
+     * Whether the sky, celestial bodies and clouds should be skipped this frame
+     */
+    public static boolean shouldSkipSky() {
+        return hidden;
+    }
+
+    /**
+     * Number of frames in which the sky pass was skipped
+     */
+    public static long getSkippedFrames() {
+        return skippedFrames;
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        return String.format("Auto Sky Skip: %s, hidden: %b, frames skipped: %d\n",
+            isEnabled() ? "Enabled" : "Disabled", hidden, skippedFrames);
+    }
+
+    private static boolean isSkyCovered(ClientWorld world, Camera camera) {
+        Entity focused = camera.getFocusedEntity();
+        if (focused instanceof LivingEntity living
+            && (living.hasStatusEffect(StatusEffects.BLINDNESS) || living.hasStatusEffect(StatusEffects.DARKNESS))) {
+            return true;
+        }
+
+        CameraSubmersionType submersion = camera.getSubmersionType();
+        if (submersion == CameraSubmersionType.LAVA || submersion == CameraSubmersionType.POWDER_SNOW) {
+            return true;
+        }
+
+        if (!world.getDimension().hasSkyLight()) {
+            return false;
+        }
+
+        BlockPos pos = camera.getBlockPos();
+        int skyLight = world.getLightLevel(LightType.SKY, pos);
+
+        // While hidden, the exit threshold applies; otherwise the stricter enter threshold
+        if (submersion == CameraSubmersionType.WATER) {
+            return skyLight <= (hidden ? UNDERWATER_EXIT_LIGHT - 1 : UNDERWATER_ENTER_LIGHT);
+        }
+
+        // Only treat the camera as underground below sea level so dark overhangs keep their sky
+        return pos.getY() < world.getSeaLevel()
+            && skyLight <= (hidden ? UNDERGROUND_EXIT_LIGHT - 1 : UNDERGROUND_ENTER_LIGHT);
+    }
+}
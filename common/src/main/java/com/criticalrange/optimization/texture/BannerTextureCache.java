@@ -0,0 +1,312 @@
+package com.criticalrange.optimization.texture;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.mixins.animations.SpriteContentsAccessor;
+import com.criticalrange.optimization.FrameCounter;
+import com.criticalrange.optimization.FrameState;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.model.ModelPart;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.TexturedRenderLayers;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.texture.NativeImage;
+import net.minecraft.client.texture.NativeImageBackedTexture;
+import net.minecraft.client.texture.SpriteContents;
+import net.minecraft.client.util.SpriteIdentifier;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.component.type.BannerPatternsComponent;
+import net.minecraft.util.DyeColor;
+import net.minecraft.util.Identifier;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Pre-composited banner textures
+ *
+ * Vanilla draws a banner's canvas once for the base and once more for every pattern layer, up to 17
+ * passes. This cache composites the base color and the pattern layers of each distinct banner into a
+ * 64x64 slot of a dynamic texture page, so a banner is drawn in a single solid pass. Slots are keyed
+ * by base color and pattern list, reused in least-recently-used order once the page budget is full,
+ * and dropped on resource reload, which can change the pattern sprites.
+ *
+ * New banners are composited a few per frame; the rest keep the vanilla path until a later frame.
+ * Only the render thread calls into this class.
+ */
+public final class BannerTextureCache {
+    private static final String NAMESPACE = "vulkanmod-extra";
+    private static final int SLOT_SIZE = 64;
+    private static final int PAGE_SIZE = 512;
+    private static final int SLOTS_PER_ROW = PAGE_SIZE / SLOT_SIZE;
+    private static final int SLOTS_PER_PAGE = SLOTS_PER_ROW * SLOTS_PER_ROW;
+    // 4 pages of 512x512 RGBA, 4 MB for 256 distinct banners
+    private static final int MAX_PAGES = 4;
+    private static final int MAX_COMPOSITES_PER_FRAME = 8;
+    // Vanilla stops drawing pattern layers after this many
+    private static final int MAX_LAYERS = 16;
+
+    private static final FrameCounter HITS = new FrameCounter();
+    private static final FrameCounter COMPOSITED = new FrameCounter();
+    private static final SlotConsumer CONSUMER = new SlotConsumer();
+
+    private static final LinkedHashMap<Key, Slot> slots = new LinkedHashMap<>(64, 0.75F, true);
+    private static final List<Page> pages = new ArrayList<>();
+    private static int allocatedSlots = 0;
+    private static int generation = -1;
+    private static long frame = -1;
+    private static int compositesThisFrame = 0;
+    private static long evictions = 0;
+    private static boolean failed = false;
+
+    private BannerTextureCache() {
+    }
+
+    /**
+     * Draw a banner canvas with its composited texture; false when vanilla should draw it
+     */
+    public static boolean render(MatrixStack matrices, VertexConsumerProvider vertexConsumers, int light, int overlay,
+                                 ModelPart canvas, SpriteIdentifier baseSprite, DyeColor color, BannerPatternsComponent patterns) {
+        if (failed || !isEnabled()) {
+            return false;
+        }
+
+        long frameIndex = FrameState.getFrameIndex();
+        if (frameIndex != frame) {
+            frame = frameIndex;
+            compositesThisFrame = 0;
+        }
+        int currentGeneration = ResourceGeneration.get();
+        if (currentGeneration != generation) {
+            generation = currentGeneration;
+            slots.clear();
+            allocatedSlots = 0;
+        }
+
+        Key key = new Key(baseSprite, color, patterns);
+        Slot slot = slots.get(key);
+        if (slot == null) {
+            if (compositesThisFrame >= MAX_COMPOSITES_PER_FRAME) {
+                return false;
+            }
+            slot = allocate();
+            if (slot == null) {
+                return false;
+            }
+            compositesThisFrame++;
+            if (!composite(slot, baseSprite, color, patterns)) {
+                // Sprite pixels are not kept by this version or another mod, nothing can be composited
+                VulkanModExtra.LOGGER.warn("Banner texture cache disabled, banner sprite pixels are not available");
+                failed = true;
+                return false;
+            }
+            slots.put(key, slot);
+            COMPOSITED.increment();
+        } else {
+            HITS.increment();
+        }
+
+        slot.lastUsedFrame = frameIndex;
+        canvas.render(matrices, CONSUMER.wrap(vertexConsumers.getBuffer(slot.page.layer), slot.u0, slot.v0), light, overlay);
+        return true;
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        return String.format("Banner Texture Cache: %d/%d slots, %d drawn, %d composited last frame, %d evicted\n",
+            slots.size(), MAX_PAGES * SLOTS_PER_PAGE, HITS.getLastFrame(), COMPOSITED.getLastFrame(), evictions);
+    }
+
+    private static boolean isEnabled() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return config != null && config.blockEntitySettings != null && config.blockEntitySettings.bannerTextureCache;
+    }
+
+    // A free slot, or the least recently used one when it was not drawn this frame
+    private static Slot allocate() {
+        if (allocatedSlots < MAX_PAGES * SLOTS_PER_PAGE) {
+            int pageIndex = allocatedSlots / SLOTS_PER_PAGE;
+            if (pageIndex == pages.size()) {
+                Page page = createPage(pageIndex);
+                if (page == null) {
+                    return null;
+                }
+                pages.add(page);
+            }
+            return new Slot(pages.get(pageIndex), allocatedSlots++ % SLOTS_PER_PAGE);
+        }
+
+        Iterator<Slot> iterator = slots.values().iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        Slot eldest = iterator.next();
+        if (eldest.lastUsedFrame == frame) {
+            // Every slot is on screen; rewriting one would change banners already drawn this frame
+            return null;
+        }
+        iterator.remove();
+        evictions++;
+        return new Slot(eldest.page, eldest.index);
+    }
+
+    private static Page createPage(int index) {
+        try {
+            Identifier id = Identifier.of(NAMESPACE, "banner_cache/" + index);
+            NativeImageBackedTexture texture = new NativeImageBackedTexture(new NativeImage(PAGE_SIZE, PAGE_SIZE, true));
+            MinecraftClient.getInstance().getTextureManager().registerTexture(id, texture);
+            return new Page(texture, RenderLayer.getEntitySolid(id));
+        } catch (RuntimeException e) {
+            VulkanModExtra.LOGGER.warn("Banner texture cache disabled, could not create a texture page", e);
+            failed = true;
+            return null;
+        }
+    }
+
+    private static boolean composite(Slot slot, SpriteIdentifier baseSprite, DyeColor color, BannerPatternsComponent patterns) {
+        NativeImage image = slot.page.texture.getImage();
+        if (image == null) {
+            return false;
+        }
+        int x0 = slot.index % SLOTS_PER_ROW * SLOT_SIZE;
+        int y0 = slot.index / SLOTS_PER_ROW * SLOT_SIZE;
+
+        // Base canvas, drawn opaque
+        if (!blend(image, x0, y0, baseSprite, -1, true)
+            || !blend(image, x0, y0, TexturedRenderLayers.BANNER_BASE, color.getEntityColor(), false)) {
+            return false;
+        }
+        List<BannerPatternsComponent.Layer> layers = patterns.layers();
+        for (int i = 0; i < MAX_LAYERS && i < layers.size(); i++) {
+            BannerPatternsComponent.Layer layer = layers.get(i);
+            if (!blend(image, x0, y0, TexturedRenderLayers.getBannerPatternTextureId(layer.pattern()),
+                layer.color().getEntityColor(), false)) {
+                return false;
+            }
+        }
+
+        slot.page.texture.bindTexture();
+        image.upload(0, x0, y0, x0, y0, SLOT_SIZE, SLOT_SIZE, false, false);
+        return true;
+    }
+
+    // Tint a sprite with an ARGB color and blend it over the slot; NativeImage pixels are ABGR
+    private static boolean blend(NativeImage target, int x0, int y0, SpriteIdentifier spriteId, int tint, boolean opaque) {
+        SpriteContents contents = spriteId.getSprite().getContents();
+        NativeImage source = ((SpriteContentsAccessor) contents).vulkanmodExtra$getImage();
+        if (source == null) {
+            return false;
+        }
+        int width = contents.getWidth();
+        int height = contents.getHeight();
+        int tintR = tint >> 16 & 0xFF;
+        int tintG = tint >> 8 & 0xFF;
+        int tintB = tint & 0xFF;
+
+        for (int y = 0; y < SLOT_SIZE; y++) {
+            int sourceY = y * height / SLOT_SIZE;
+            for (int x = 0; x < SLOT_SIZE; x++) {
+                int pixel = source.getColor(x * width / SLOT_SIZE, sourceY);
+                int alpha = opaque ? 0xFF : pixel >>> 24;
+                if (alpha == 0) {
+                    continue;
+                }
+                int r = (pixel & 0xFF) * tintR / 255;
+                int g = (pixel >> 8 & 0xFF) * tintG / 255;
+                int b = (pixel >> 16 & 0xFF) * tintB / 255;
+                if (alpha < 0xFF) {
+                    int below = target.getColor(x0 + x, y0 + y);
+                    r = (r * alpha + (below & 0xFF) * (255 - alpha)) / 255;
+                    g = (g * alpha + (below >> 8 & 0xFF) * (255 - alpha)) / 255;
+                    b = (b * alpha + (below >> 16 & 0xFF) * (255 - alpha)) / 255;
+                }
+                target.setColor(x0 + x, y0 + y, 0xFF000000 | b << 16 | g << 8 | r);
+            }
+        }
+        return true;
+    }
+
+    private record Key(SpriteIdentifier baseSprite, DyeColor color, BannerPatternsComponent patterns) {
+    }
+
+    private record Page(NativeImageBackedTexture texture, RenderLayer layer) {
+    }
+
+    private static final class Slot {
+        private final Page page;
+        private final int index;
+        private final float u0;
+        private final float v0;
+        private long lastUsedFrame = -1;
+
+        private Slot(Page page, int index) {
+            this.page = page;
+            this.index = index;
+            this.u0 = (float) (index % SLOTS_PER_ROW) / SLOTS_PER_ROW;
+            this.v0 = (float) (index / SLOTS_PER_ROW) / SLOTS_PER_ROW;
+        }
+    }
+
+    // Maps the canvas model's 0-1 texture coordinates into a slot of the page
+    private static final class SlotConsumer implements VertexConsumer {
+        private static final float SCALE = 1.0F / SLOTS_PER_ROW;
+
+        private VertexConsumer delegate;
+        private float u0;
+        private float v0;
+
+        private SlotConsumer wrap(VertexConsumer delegate, float u0, float v0) {
+            this.delegate = delegate;
+            this.u0 = u0;
+            this.v0 = v0;
+            return this;
+        }
+
+        @Override
+        public VertexConsumer vertex(float x, float y, float z) {
+            delegate.vertex(x, y, z);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer color(int red, int green, int blue, int alpha) {
+            delegate.color(red, green, blue, alpha);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer texture(float u, float v) {
+            delegate.texture(u0 + u * SCALE, v0 + v * SCALE);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer overlay(int u, int v) {
+            delegate.overlay(u, v);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer light(int u, int v) {
+            delegate.light(u, v);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer normal(float x, float y, float z) {
+            delegate.normal(x, y, z);
+            return this;
+        }
+
+        @Override
+        public void vertex(float x, float y, float z, int color, float u, float v, int overlay, int light,
+                           float normalX, float normalY, float normalZ) {
+            delegate.vertex(x, y, z, color, u0 + u * SCALE, v0 + v * SCALE, overlay, light, normalX, normalY, normalZ);
+        }
+    }
+}
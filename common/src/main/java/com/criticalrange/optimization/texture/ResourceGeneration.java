@@ -0,0 +1,31 @@
+package com.criticalrange.optimization.texture;
+
+/**
+ * Resource reload counter
+ *
+ * Every resource reload re-stitches the sprite atlases, so each atlas upload bumps the generation.
+ * Caches that hold sprite coordinates, glyphs or other reloadable data store the generation they
+ * were built with and drop their contents when it no longer matches.
+ *
+ * Atlases are uploaded on the render thread; the counter is volatile so other threads can compare it.
+ */
+public final class ResourceGeneration {
+    private static volatile int generation = 0;
+
+    private ResourceGeneration() {
+    }
+
+    /**
+     * Called after a sprite atlas has been uploaded
+     */
+    public static void onAtlasUpload() {
+        generation++;
+    }
+
+    /**
+     * Current generation, changes after every resource reload
+     */
+    public static int get() {
+        return generation;
+    }
+}
@@ -0,0 +1,230 @@
+package com.criticalrange.optimization.texture;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.mixins.animations.SpriteContentsAccessor;
+import net.minecraft.client.texture.NativeImage;
+import net.minecraft.client.texture.SpriteContents;
+import net.minecraft.client.texture.SpriteDimensions;
+import net.minecraft.util.Identifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Texture budget for sprite atlases
+ *
+ * Sprites larger than the configured resolution are box-downsampled frame by frame
+ * before the atlas is stitched, so the atlas, its mip chain and every animation upload
+ * shrink together. Animated sprites get their own (usually lower) cap because each of
+ * their frames is re-uploaded while the animation ticks.
+ *
+ * Stitching runs on worker threads, one atlas per thread, so all statistics are keyed by atlas id.
+ */
+public final class TextureBudget {
+    private static final int MIN_RESOLUTION = 16;
+
+    private static final Map<Identifier, AtlasReport> REPORTS = new ConcurrentHashMap<>();
+    private static final Map<Identifier, AtlasReport> PENDING = new ConcurrentHashMap<>();
+
+    // Set when the running Minecraft version cannot rebuild sprite contents - budget is then skipped
+    private static volatile boolean unsupported = false;
+
+    private TextureBudget() {
+    }
+
+    /**
+     * Whether the texture budget should be applied on the next stitch
+     */
+    public static boolean isEnabled() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return !unsupported && config != null && config.optimizationSettings != null
+            && config.optimizationSettings.textureBudget;
+    }
+
+    /**
+     * Clamp the requested atlas mip level to the configured maximum
+     */
+    public static int clampMipLevel(int requestedMipLevel) {
+        if (!isEnabled()) {
+            return requestedMipLevel;
+        }
+        int max = Math.max(0, Math.min(4, VulkanModExtra.CONFIG.optimizationSettings.maxMipmapLevels));
+        return Math.min(requestedMipLevel, max);
+    }
+
+    /**
+     * Apply the budget to every sprite of an atlas about to be stitched.
+     * Returns the list to stitch; oversized sprites are replaced by downsampled copies and closed.
+     */
+    public static List<SpriteContents> apply(Identifier atlasId, List<SpriteContents> sprites) {
+        long bytesBefore = 0;
+        long bytesAfter = 0;
+        int downsampled = 0;
+
+        boolean enabled = isEnabled();
+        int staticCap = enabled ? resolutionCap(VulkanModExtra.CONFIG.optimizationSettings.maxTextureResolution) : Integer.MAX_VALUE;
+        int animatedCap = enabled ? resolutionCap(VulkanModExtra.CONFIG.optimizationSettings.maxAnimatedTextureResolution) : Integer.MAX_VALUE;
+
+        List<SpriteContents> result = new ArrayList<>(sprites.size());
+        for (SpriteContents contents : sprites) {
+            NativeImage image = ((SpriteContentsAccessor) contents).vulkanmodExtra$getImage();
+            long size = image != null ? (long) image.getWidth() * image.getHeight() * 4L : 0L;
+            bytesBefore += size;
+
+            SpriteContents budgeted = contents;
+            if (enabled && image != null) {
+                boolean animated = image.getWidth() > contents.getWidth() || image.getHeight() > contents.getHeight();
+                budgeted = downsample(contents, image, animated ? animatedCap : staticCap);
+                if (budgeted != contents) {
+                    downsampled++;
+                    NativeImage scaled = ((SpriteContentsAccessor) budgeted).vulkanmodExtra$getImage();
+                    size = (long) scaled.getWidth() * scaled.getHeight() * 4L;
+                }
+            }
+
+            bytesAfter += size;
+            result.add(budgeted);
+        }
+
+        PENDING.put(atlasId, new AtlasReport(sprites.size(), downsampled, bytesBefore, bytesAfter, 0, 0, 0));
+        return result;
+    }
+
+    /**
+     * Complete the report of an atlas once its stitch result is known
+     */
+    public static void recordStitch(Identifier atlasId, int width, int height, int mipLevel) {
+        AtlasReport pending = PENDING.remove(atlasId);
+        if (pending == null) {
+            return;
+        }
+
+        AtlasReport report = new AtlasReport(pending.spriteCount(), pending.downsampledCount(),
+            pending.spriteBytesBefore(), pending.spriteBytesAfter(), width, height, mipLevel);
+        REPORTS.put(atlasId, report);
+
+        if (report.downsampledCount() > 0) {
+            VulkanModExtra.LOGGER.info("Texture budget: atlas {} {}x{} (mip {}), {} of {} sprites downsampled, sprite memory {} -> {}",
+                atlasId, width, height, mipLevel, report.downsampledCount(), report.spriteCount(),
+                formatBytes(report.estimatedBytesBefore()), formatBytes(report.estimatedBytesAfter()));
+        }
+    }
+
+    /**
+     * Snapshot of the latest report for every stitched atlas
+     */
+    public static Map<Identifier, AtlasReport> getReports() {
+        return Map.copyOf(REPORTS);
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Texture Budget: %s%s\n", isEnabled() ? "Enabled" : "Disabled",
+            unsupported ? " (unsupported on this version)" : ""));
+
+        for (Map.Entry<Identifier, AtlasReport> entry : REPORTS.entrySet()) {
+            AtlasReport report = entry.getValue();
+            sb.append(String.format("  %s: %dx%d mip %d, %d/%d sprites downsampled, %s -> %s\n",
+                entry.getKey(), report.atlasWidth(), report.atlasHeight(), report.mipLevel(),
+                report.downsampledCount(), report.spriteCount(),
+                formatBytes(report.estimatedBytesBefore()), formatBytes(report.estimatedBytesAfter())));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Downsample a sprite by the smallest power of two that brings its frames under the cap.
+     * Returns the original contents when no downsampling is needed or possible.
+     */
+    private static SpriteContents downsample(SpriteContents contents, NativeImage image, int cap) {
+        int frameWidth = contents.getWidth();
+        int frameHeight = contents.getHeight();
+
+        int factor = 1;
+        while (Math.max(frameWidth, frameHeight) / factor > cap) {
+            factor <<= 1;
+        }
+        if (factor == 1 || frameWidth % factor != 0 || frameHeight % factor != 0) {
+            return contents;
+        }
+
+        int scaledFrameWidth = frameWidth / factor;
+        int scaledFrameHeight = frameHeight / factor;
+        int columns = image.getWidth() / frameWidth;
+        int rows = image.getHeight() / frameHeight;
+
+        NativeImage scaled = new NativeImage(image.getFormat(), columns * scaledFrameWidth, rows * scaledFrameHeight, false);
+        try (NativeImage frame = new NativeImage(image.getFormat(), scaledFrameWidth, scaledFrameHeight, false)) {
+            // Resize frame by frame so neighbouring animation frames never bleed into each other
+            for (int row = 0; row < rows; row++) {
+                for (int column = 0; column < columns; column++) {
+                    image.resizeSubRectTo(column * frameWidth, row * frameHeight, frameWidth, frameHeight, frame);
+                    frame.copyRect(scaled, 0, 0, column * scaledFrameWidth, row * scaledFrameHeight,
+                        scaledFrameWidth, scaledFrameHeight, false, false);
+                }
+            }
+
+            SpriteContents budgeted = new SpriteContents(contents.getId(),
+                new SpriteDimensions(scaledFrameWidth, scaledFrameHeight), scaled,
+                ((SpriteContentsAccessor) contents).vulkanmodExtra$getMetadata());
+            contents.close();
+            return budgeted;
+        } catch (LinkageError e) {
+            // SpriteContents changed shape on this Minecraft version - stop trying for this session
+            unsupported = true;
+            scaled.close();
+            VulkanModExtra.LOGGER.warn("Texture budget is not supported on this Minecraft version: {}", e.getMessage());
+            return contents;
+        } catch (Exception e) {
+            scaled.close();
+            VulkanModExtra.LOGGER.warn("Failed to downsample sprite {}: {}", contents.getId(), e.getMessage());
+            return contents;
+        }
+    }
+
+    /**
+     * Round a configured resolution down to a power of two, never below 16
+     */
+    private static int resolutionCap(int configured) {
+        int value = Math.max(MIN_RESOLUTION, configured);
+        return Integer.highestOneBit(value);
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes >= 1024L * 1024L) {
+            return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+        }
+        return String.format("%.1f KB", bytes / 1024.0);
+    }
+
+    /**
+     * Per-atlas texture budget report
+     *
+     * Sprite byte counts cover the base level only; the estimated totals include the mip chain.
+     */
+    public record AtlasReport(int spriteCount, int downsampledCount, long spriteBytesBefore, long spriteBytesAfter,
+                              int atlasWidth, int atlasHeight, int mipLevel) {
+
+        public long estimatedBytesBefore() {
+            return (long) (spriteBytesBefore * mipChainFactor());
+        }
+
+        public long estimatedBytesAfter() {
+            return (long) (spriteBytesAfter * mipChainFactor());
+        }
+
+        private double mipChainFactor() {
+            double factor = 0.0;
+            for (int level = 0; level <= mipLevel; level++) {
+                factor += 1.0 / (1 << (2 * level));
+            }
+            return factor;
+        }
+    }
+}
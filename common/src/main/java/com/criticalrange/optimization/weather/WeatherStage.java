@@ -0,0 +1,180 @@
+package com.criticalrange.optimization.weather;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.optimization.FrameState;
+import net.minecraft.world.World;
+
+import java.util.Arrays;
+
+/**
+ * Weather stage control
+ *
+ * Applies the configured weather radius, column density and rain splash rate, and caches the
+ * precipitation heightmap around the camera. Vanilla queries the MOTION_BLOCKING heightmap for
+ * every weather column every frame; the cache keeps one window per camera chunk and fills it
+ * lazily, so each column is looked up once until the camera changes chunk or the window expires.
+ *
+ * Weather is built on the render thread only, so none of the state here is synchronized.
+ */
+public final class WeatherStage {
+    public static final int NO_HEIGHT = Integer.MIN_VALUE;
+    // Reported for columns dropped by the density setting; vanilla skips columns whose top is above the weather band
+    public static final int HIDDEN_COLUMN = Integer.MAX_VALUE;
+
+    // Vanilla radius at Fancy graphics; Fast graphics uses half of it
+    public static final int VANILLA_RADIUS = 10;
+    // 1.21/1.21.1 index 32x32 lookup tables centered on the camera, so the radius must stay below 16
+    private static final int MAX_RADIUS = 15;
+
+    // Window of camera chunk +-1 chunk, wide enough for MAX_RADIUS from anywhere inside the camera chunk
+    private static final int WINDOW_SIZE = 48;
+    // Re-query the heightmap this often so placed and broken blocks show up in the weather
+    private static final int REVALIDATE_FRAMES = 10;
+
+    private static final int[] HEIGHTS = new int[WINDOW_SIZE * WINDOW_SIZE];
+    private static final int[] STAMPS = new int[WINDOW_SIZE * WINDOW_SIZE];
+    private static World cacheWorld = null;
+    private static int windowX = Integer.MIN_VALUE;
+    private static int windowZ = Integer.MIN_VALUE;
+    private static long windowFrame = 0;
+    private static int stamp = 0;
+
+    private static long heightHits = 0;
+    private static long heightMisses = 0;
+    private static long columnsSkipped = 0;
+
+    private WeatherStage() {
+    }
+
+    /**
+     * Weather radius to use instead of the vanilla radius for the current graphics mode
+     */
+    public static int getRadius(int vanillaRadius) {
+        VulkanModExtraConfig.DetailSettings settings = getSettings();
+        if (settings == null) {
+            return vanillaRadius;
+        }
+        int radius = Math.round(settings.weatherRadius * vanillaRadius / (float) VANILLA_RADIUS);
+        return Math.max(1, Math.min(MAX_RADIUS, radius));
+    }
+
+    /**
+     * Whether the weather column at the given position is drawn at the configured density.
+     * The choice is a hash of the world column, so the same columns stay visible between frames.
+     */
+    public static boolean shouldRenderColumn(int x, int z) {
+        VulkanModExtraConfig.DetailSettings settings = getSettings();
+        if (settings == null || settings.weatherDensity >= 100) {
+            return true;
+        }
+
+        int hash = x * 73428767 ^ z * 912931;
+        hash ^= hash >>> 13;
+        hash *= 0x5bd1e995;
+        hash ^= hash >>> 15;
+        if ((hash & 0x7fffffff) % 100 < settings.weatherDensity) {
+            return true;
+        }
+        columnsSkipped++;
+        return false;
+    }
+
+    /**
+     * Scale the vanilla rain splash sample count by the configured splash rate
+     */
+    public static float scaleSplashCount(float vanillaCount) {
+        VulkanModExtraConfig.DetailSettings settings = getSettings();
+        if (settings == null) {
+            return vanillaCount;
+        }
+        return vanillaCount * Math.max(0, settings.rainSplashRate) / 100.0F;
+    }
+
+    /**
+     * Whether rain splash particles are spawned at all
+     */
+    public static boolean shouldSpawnSplashParticles() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return config == null || config.particleSettings == null || config.particleSettings.rainSplash;
+    }
+
+    /**
+     * Cached top of the MOTION_BLOCKING heightmap for a weather column, or {@link #NO_HEIGHT} when
+     * the column still has to be looked up and stored with {@link #cacheTopY}
+     */
+    public static int getCachedTopY(World world, int x, int z) {
+        long frame = FrameState.getFrameIndex();
+        if (world != cacheWorld || frame - windowFrame >= REVALIDATE_FRAMES || frame < windowFrame) {
+            resetWindow(world, windowX, windowZ, frame);
+        }
+
+        int index = indexOf(x, z);
+        if (index >= 0 && STAMPS[index] == stamp) {
+            heightHits++;
+            return HEIGHTS[index];
+        }
+        heightMisses++;
+        return NO_HEIGHT;
+    }
+
+    /**
+     * Store a looked up column height in the window and return it
+     */
+    public static int cacheTopY(int x, int z, int height) {
+        int index = indexOf(x, z);
+        if (index >= 0) {
+            HEIGHTS[index] = height;
+            STAMPS[index] = stamp;
+        }
+        return height;
+    }
+
+    /**
+     * Center the heightmap window on the camera chunk before a weather pass
+     */
+    public static void beginWeather(World world, double cameraX, double cameraZ) {
+        int chunkX = (int) Math.floor(cameraX) >> 4;
+        int chunkZ = (int) Math.floor(cameraZ) >> 4;
+        int originX = (chunkX - 1) << 4;
+        int originZ = (chunkZ - 1) << 4;
+        if (world != cacheWorld || originX != windowX || originZ != windowZ) {
+            resetWindow(world, originX, originZ, FrameState.getFrameIndex());
+        }
+    }
+
+    /**
+     * Diagnostic summary for the optimization feature
+     */
+    public static String getDiagnosticInfo() {
+        long lookups = heightHits + heightMisses;
+        return String.format("Weather: radius %d, heightmap cache %.1f%% hits (%d lookups), %d columns skipped by density\n",
+            getRadius(VANILLA_RADIUS), lookups == 0 ? 0.0 : heightHits * 100.0 / lookups, lookups, columnsSkipped);
+    }
+
+    private static int indexOf(int x, int z) {
+        int localX = x - windowX;
+        int localZ = z - windowZ;
+        if (localX < 0 || localZ < 0 || localX >= WINDOW_SIZE || localZ >= WINDOW_SIZE) {
+            return -1;
+        }
+        return localZ * WINDOW_SIZE + localX;
+    }
+
+    private static void resetWindow(World world, int originX, int originZ, long frame) {
+        cacheWorld = world;
+        windowX = originX;
+        windowZ = originZ;
+        windowFrame = frame;
+        if (++stamp == 0) {
+            // Stamp wrapped around - old entries could look valid again
+            Arrays.fill(STAMPS, 0);
+            stamp = 1;
+        }
+    }
+
+    private static VulkanModExtraConfig.DetailSettings getSettings() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return config != null ? config.detailSettings : null;
+    }
+}
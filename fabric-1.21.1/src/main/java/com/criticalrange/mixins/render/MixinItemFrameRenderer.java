@@ -1,6 +1,12 @@
 package com.criticalrange.mixins.render;
 
 import com.criticalrange.VulkanModExtra;
+import com.criticalrange.optimization.entity.DecorationBaker;
+import com.criticalrange.optimization.nametag.NameTagDecision;
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.client.render.entity.ItemFrameEntityRenderer;
 import net.minecraft.entity.decoration.ItemFrameEntity;
 import org.spongepowered.asm.mixin.Mixin;
@@ -17,11 +23,13 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 @Mixin(ItemFrameEntityRenderer.class)
 public class MixinItemFrameRenderer {
 
+    private static final String RENDER = "render(Lnet/minecraft/entity/decoration/ItemFrameEntity;FFLnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/client/render/VertexConsumerProvider;I)V";
+
     /**
      * 1.21.1: Entity-based render method
      * Method signature: render(T, float, float, MatrixStack, VertexConsumerProvider, int)
      */
-    @Inject(method = "render(Lnet/minecraft/entity/decoration/ItemFrameEntity;FFLnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/client/render/VertexConsumerProvider;I)V",
+    @Inject(method = RENDER,
             at = @At("HEAD"), cancellable = true)
     private void controlRendering1_21_1(ItemFrameEntity itemFrameEntity, float f, float g, net.minecraft.client.util.math.MatrixStack matrixStack, net.minecraft.client.render.VertexConsumerProvider vertexConsumerProvider, int i, CallbackInfo ci) {
         if (VulkanModExtra.CONFIG != null &&
@@ -32,13 +40,25 @@ public class MixinItemFrameRenderer {
     }
 
     /**
-     * 1.21.1: hasLabel method with ItemFrameEntity parameter
+     * Item frames holding an unchanged non-map item are drawn from their baked vertices
+     */
+    @WrapMethod(method = RENDER, require = 0)
+    private void vulkanmodExtra$bakeStaticItemFrame(ItemFrameEntity entity, float yaw, float tickDelta, MatrixStack matrices,
+                                                    VertexConsumerProvider vertexConsumers, int light, Operation<Void> original) {
+        if (DecorationBaker.replay(entity, matrices, vertexConsumers, light)) {
+            return;
+        }
+        VertexConsumerProvider target = DecorationBaker.beginCapture(entity, matrices, vertexConsumers);
+        original.call(entity, yaw, tickDelta, matrices, target, light);
+        DecorationBaker.endCapture(target, matrices);
+    }
+
+    /**
+     * Item frame name tag: hasLabel(ItemFrameEntity), routed through the shared name tag decision
      */
     @Inject(method = "hasLabel(Lnet/minecraft/entity/decoration/ItemFrameEntity;)Z", at = @At("HEAD"), cancellable = true)
-    private void controlNameTag(ItemFrameEntity itemFrameEntity, CallbackInfoReturnable<Boolean> cir) {
-        if (VulkanModExtra.CONFIG != null &&
-            VulkanModExtra.CONFIG.renderSettings != null &&
-            !VulkanModExtra.CONFIG.renderSettings.itemFrameNameTag) {
+    private void controlNameTag(ItemFrameEntity entity, CallbackInfoReturnable<Boolean> cir) {
+        if (!NameTagDecision.shouldShowLabel(entity, NameTagDecision.UNKNOWN_DISTANCE)) {
             cir.setReturnValue(false);
         }
     }
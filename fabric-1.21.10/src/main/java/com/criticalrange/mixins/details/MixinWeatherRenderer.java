@@ -0,0 +1,25 @@
+package com.criticalrange.mixins.details;
+
+import com.criticalrange.VulkanModExtra;
+import net.minecraft.client.render.WorldRenderer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Weather effect control mixin
+ * Controls weather rendering (rain and snow) for better performance
+ * Targets the weather pass by name since its parameters change between 1.21.3 and 1.21.11
+ */
+@Mixin(WorldRenderer.class)
+public class MixinWeatherRenderer {
+
+    @Inject(method = "renderWeather", at = @At("HEAD"), cancellable = true, require = 0)
+    private void vulkanmodExtra$renderSnowAndRain(CallbackInfo ci) {
+        if (VulkanModExtra.CONFIG != null && VulkanModExtra.CONFIG.detailSettings != null
+            && !VulkanModExtra.CONFIG.detailSettings.rainSnow) {
+            ci.cancel();
+        }
+    }
+}
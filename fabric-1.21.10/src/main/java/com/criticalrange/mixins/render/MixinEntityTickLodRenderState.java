@@ -0,0 +1,30 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.entity.EntityTickLod;
+import com.criticalrange.optimization.entity.ItemEntityLod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import net.minecraft.client.render.entity.EntityRenderer;
+import net.minecraft.client.render.entity.state.EntityRenderState;
+import net.minecraft.entity.Entity;
+import org.spongepowered.asm.mixin.Mixin;
+
+/**
+ * Stretched interpolation for entities ticking below full rate
+ * Render state extraction interpolates position and pose from its tick delta, so replacing the delta
+ * here covers the whole entity. The item LOD is told which stack is being extracted.
+ */
+@Mixin(EntityRenderer.class)
+public class MixinEntityTickLodRenderState {
+
+    @WrapMethod(method = "getAndUpdateRenderState", require = 0)
+    private EntityRenderState vulkanmodExtra$stretchInterpolation(Entity entity, float tickDelta,
+                                                                  Operation<EntityRenderState> original) {
+        ItemEntityLod.beginEntity(entity);
+        try {
+            return original.call(entity, EntityTickLod.getRenderTickDelta(entity, tickDelta));
+        } finally {
+            ItemEntityLod.endEntity();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.criticalrange.mixins.details;
 
 import com.criticalrange.VulkanModExtra;
+import com.criticalrange.optimization.sky.SkyVisibility;
 import net.minecraft.client.render.WorldRenderer;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
@@ -8,25 +9,30 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 /**
- * Cloud rendering control mixin
+ * Cloud rendering control mixin for Minecraft 1.21.2+
  * Controls cloud rendering and distance based on configuration
- * Platform-specific versions will override this with correct method names
+ * The cloud mesh moved to CloudRenderer, so renderClouds is no longer overloaded and the name is enough
  */
 @Mixin(WorldRenderer.class)
 public class MixinCloudRendering {
 
     /**
      * Control cloud rendering
-     * This method will be overridden by platform-specific mixins
      */
-    @Inject(method = "*", at = @At("HEAD"), require = 0)
+    @Inject(method = "renderClouds", at = @At("HEAD"), cancellable = true, require = 0)
     private void vulkanmodExtra$controlCloudRendering(CallbackInfo ci) {
         if (VulkanModExtra.CONFIG != null &&
             VulkanModExtra.CONFIG.detailSettings != null) {
             // Cancel cloud rendering when distance is set to 0 or below
             if (VulkanModExtra.CONFIG.detailSettings.cloudDistance <= 0) {
                 ci.cancel();
+                return;
             }
         }
+
+        // Clouds are part of the sky pass skipped while the sky cannot be seen
+        if (SkyVisibility.shouldSkipSky()) {
+            ci.cancel();
+        }
     }
 }
@@ -1,31 +0,0 @@
-package com.criticalrange.mixins.details;
-
-import com.criticalrange.VulkanModExtra;
-import net.minecraft.client.render.WorldRenderer;
-import org.spongepowered.asm.mixin.Mixin;
-import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-
-/**
- * Sky gradient control mixin
- * Controls sky background gradient rendering
- * Platform-specific versions will override this with correct method names
- */
-@Mixin(WorldRenderer.class)
-public class MixinSkyGradient {
-
-    /**
-     * Control sky gradient rendering
-     * This method will be overridden by platform-specific mixins
-     */
-    @Inject(method = "*", at = @At("HEAD"), require = 0)
-    private void vulkanmodExtra$controlSkyGradient(CallbackInfo ci) {
-        if (VulkanModExtra.CONFIG != null && VulkanModExtra.CONFIG.detailSettings != null) {
-            // Cancel sky gradient rendering when disabled
-            if (!VulkanModExtra.CONFIG.detailSettings.skyGradient) {
-                ci.cancel();
-            }
-        }
-    }
-}
\ No newline at end of file
@@ -1,7 +1,8 @@
 package com.criticalrange.mixins.render;
 
-import com.criticalrange.VulkanModExtra;
+import com.criticalrange.optimization.nametag.NameTagDecision;
 import net.minecraft.client.render.entity.ArmorStandEntityRenderer;
+import net.minecraft.entity.decoration.ArmorStandEntity;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -18,11 +19,11 @@ public class MixinArmorStandEntityRenderer {
 
 
     /**
-     * 1.21.1: hasLabel method with ArmorStandEntity parameter
+     * Armor stand name tag: hasLabel(ArmorStandEntity, double), routed through the shared name tag decision
      */
-    @Inject(method = "hasLabel(Lnet/minecraft/entity/decoration/ArmorStandEntity;)Z", at = @At("HEAD"), cancellable = true)
-    private void controlNameTag(net.minecraft.entity.decoration.ArmorStandEntity armorStandEntity, CallbackInfoReturnable<Boolean> cir) {
-        if (VulkanModExtra.CONFIG != null && VulkanModExtra.CONFIG.renderSettings != null && !VulkanModExtra.CONFIG.renderSettings.armorStandNameTag) {
+    @Inject(method = "hasLabel(Lnet/minecraft/entity/decoration/ArmorStandEntity;D)Z", at = @At("HEAD"), cancellable = true)
+    private void controlNameTag(ArmorStandEntity entity, double distance, CallbackInfoReturnable<Boolean> cir) {
+        if (!NameTagDecision.shouldShowLabel(entity, distance)) {
             cir.setReturnValue(false);
         }
     }
@@ -0,0 +1,28 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.entity.ExtractionBenchmark;
+import net.minecraft.client.render.entity.EntityRenderer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Times entity render state extraction for the extraction microbenchmark (debug logging only)
+ * Objects culled by MixinEntityRenderDistance and MixinBlockEntityRenderDistance never reach this point
+ */
+@Mixin(EntityRenderer.class)
+public class MixinEntityRenderStateTiming {
+
+    @Inject(method = "getAndUpdateRenderState", at = @At("HEAD"), require = 0)
+    private void vulkanmodExtra$beginExtraction(CallbackInfoReturnable<?> cir) {
+        if (ExtractionBenchmark.isActive()) {
+            ExtractionBenchmark.beginExtraction();
+        }
+    }
+
+    @Inject(method = "getAndUpdateRenderState", at = @At("RETURN"), require = 0)
+    private void vulkanmodExtra$endExtraction(CallbackInfoReturnable<?> cir) {
+        ExtractionBenchmark.endExtraction();
+    }
+}
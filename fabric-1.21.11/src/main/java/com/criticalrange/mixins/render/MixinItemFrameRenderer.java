@@ -1,11 +1,11 @@
 package com.criticalrange.mixins.render;
 
-import com.criticalrange.VulkanModExtra;
+import com.criticalrange.optimization.nametag.NameTagDecision;
 import net.minecraft.client.render.entity.ItemFrameEntityRenderer;
+import net.minecraft.entity.decoration.ItemFrameEntity;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 /**
@@ -21,25 +21,11 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 public class MixinItemFrameRenderer {
 
     /**
-     * 1.21.1: Entity-based render method
+     * Item frame name tag: hasLabel(ItemFrameEntity, double), routed through the shared name tag decision
      */
-    @Inject(method = "render(Lnet/minecraft/entity/decoration/ItemFrameEntity;FFLnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/client/render/VertexConsumerProvider;I)V",
-            at = @At("HEAD"), cancellable = true, require = 0)
-    private void controlRendering1_21_1(CallbackInfo ci) {
-        if (VulkanModExtra.CONFIG != null && !VulkanModExtra.CONFIG.renderSettings.itemFrame) {
-            ci.cancel();
-        }
-    }
-
-
-    /**
-     * Universal: hasLabel method (works across all versions)
-     * For 1.21.1: hasLabel(ItemFrameEntity)
-     * For 1.21.2+: hasLabel() with no parameters
-     */
-    @Inject(method = "hasLabel", at = @At("HEAD"), cancellable = true, require = 0)
-    private void controlNameTag(CallbackInfoReturnable<Boolean> cir) {
-        if (VulkanModExtra.CONFIG != null && !VulkanModExtra.CONFIG.renderSettings.itemFrameNameTag) {
+    @Inject(method = "hasLabel(Lnet/minecraft/entity/decoration/ItemFrameEntity;D)Z", at = @At("HEAD"), cancellable = true, require = 0)
+    private void controlNameTag(ItemFrameEntity entity, double distance, CallbackInfoReturnable<Boolean> cir) {
+        if (!NameTagDecision.shouldShowLabel(entity, distance)) {
             cir.setReturnValue(false);
         }
     }
@@ -0,0 +1,25 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.optimization.nametag.NameTagDecision;
+import net.minecraft.client.render.entity.LivingEntityRenderer;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.decoration.ArmorStandEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Player and mob name tag control for Minecraft 1.21.2+
+ * Armor stands reach this through super.hasLabel and are decided by MixinArmorStandEntityRenderer
+ */
+@Mixin(LivingEntityRenderer.class)
+public class MixinLivingEntityLabel {
+
+    @Inject(method = "hasLabel(Lnet/minecraft/entity/LivingEntity;D)Z", at = @At("HEAD"), cancellable = true, require = 0)
+    private void vulkanmodExtra$controlLabel(LivingEntity entity, double distance, CallbackInfoReturnable<Boolean> cir) {
+        if (!(entity instanceof ArmorStandEntity) && !NameTagDecision.shouldShowLabel(entity, distance)) {
+            cir.setReturnValue(false);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.criticalrange.mixins.details;
 
 import com.criticalrange.VulkanModExtra;
+import com.criticalrange.optimization.sky.SkyVisibility;
 import net.minecraft.client.render.WorldRenderer;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
@@ -8,15 +9,15 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 /**
- * Cloud rendering control mixin for Minecraft 1.21.2
+ * Cloud rendering control mixin for Minecraft 1.21.2+
  * Controls cloud rendering and distance based on configuration
+ * The cloud mesh moved to CloudRenderer, so renderClouds is no longer overloaded and the name is enough
  */
 @Mixin(WorldRenderer.class)
 public class MixinCloudRendering {
 
     /**
-     * Control cloud rendering in Minecraft 1.21.2
-     * Uses the renderClouds method which handles all cloud rendering
+     * Control cloud rendering
      */
     @Inject(method = "renderClouds", at = @At("HEAD"), cancellable = true, require = 0)
     private void vulkanmodExtra$controlCloudRendering(CallbackInfo ci) {
@@ -25,7 +26,13 @@ public class MixinCloudRendering {
             // Cancel cloud rendering when distance is set to 0 or below
             if (VulkanModExtra.CONFIG.detailSettings.cloudDistance <= 0) {
                 ci.cancel();
+                return;
             }
         }
+
+        // Clouds are part of the sky pass skipped while the sky cannot be seen
+        if (SkyVisibility.shouldSkipSky()) {
+            ci.cancel();
+        }
     }
-}
\ No newline at end of file
+}
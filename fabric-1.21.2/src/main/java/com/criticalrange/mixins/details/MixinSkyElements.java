@@ -32,12 +32,6 @@ public class MixinSkyElements {
                 ci.cancel();
                 return;
             }
-
-            // Very low cloud distance - disable clouds for performance
-            if (settings.cloudDistance <= 32) {
-                ci.cancel();
-                return;
-            }
         }
     }
 }
\ No newline at end of file
@@ -1,10 +1,12 @@
 package com.criticalrange.mixins.render;
 
 import com.criticalrange.VulkanModExtra;
+import com.criticalrange.optimization.nametag.NameTagDecision;
 import net.minecraft.client.render.entity.ArmorStandEntityRenderer;
 import net.minecraft.client.render.entity.state.ArmorStandEntityRenderState;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.entity.decoration.ArmorStandEntity;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -33,11 +35,11 @@ public class MixinArmorStandEntityRenderer {
     }
 
     /**
-     * 1.21.2: hasLabel method with ArmorStandEntity parameter and distance
+     * Armor stand name tag: hasLabel(ArmorStandEntity, double), routed through the shared name tag decision
      */
     @Inject(method = "hasLabel(Lnet/minecraft/entity/decoration/ArmorStandEntity;D)Z", at = @At("HEAD"), cancellable = true)
-    private void controlNameTag(net.minecraft.entity.decoration.ArmorStandEntity armorStandEntity, double distance, CallbackInfoReturnable<Boolean> cir) {
-        if (VulkanModExtra.CONFIG != null && VulkanModExtra.CONFIG.renderSettings != null && !VulkanModExtra.CONFIG.renderSettings.armorStandNameTag) {
+    private void controlNameTag(ArmorStandEntity entity, double distance, CallbackInfoReturnable<Boolean> cir) {
+        if (!NameTagDecision.shouldShowLabel(entity, distance)) {
             cir.setReturnValue(false);
         }
     }
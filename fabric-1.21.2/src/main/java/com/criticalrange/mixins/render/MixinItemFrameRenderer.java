@@ -1,10 +1,12 @@
 package com.criticalrange.mixins.render;
 
 import com.criticalrange.VulkanModExtra;
+import com.criticalrange.optimization.nametag.NameTagDecision;
 import net.minecraft.client.render.entity.ItemFrameEntityRenderer;
 import net.minecraft.client.render.entity.state.ItemFrameEntityRenderState;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.entity.decoration.ItemFrameEntity;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -45,23 +47,11 @@ public class MixinItemFrameRenderer {
     }
 
     /**
-     * Universal: hasLabel method (works across all versions)
-     * For 1.21.1: hasLabel(ItemFrameEntity, double)
-     * For 1.21.2+: hasLabel(T, double) where T extends ItemFrameEntity
+     * Item frame name tag: hasLabel(ItemFrameEntity, double), routed through the shared name tag decision
      */
     @Inject(method = "hasLabel(Lnet/minecraft/entity/decoration/ItemFrameEntity;D)Z", at = @At("HEAD"), cancellable = true, require = 0)
-    private void controlNameTag(net.minecraft.entity.decoration.ItemFrameEntity itemFrame, double double_1, CallbackInfoReturnable<Boolean> cir) {
-        if (VulkanModExtra.CONFIG != null && !VulkanModExtra.CONFIG.renderSettings.itemFrameNameTag) {
-            cir.setReturnValue(false);
-        }
-    }
-
-    /**
-     * Universal: hasLabel method for Entity parent
-     */
-    @Inject(method = "hasLabel(Lnet/minecraft/entity/Entity;D)Z", at = @At("HEAD"), cancellable = true, require = 0)
-    private void controlNameTagEntity(net.minecraft.entity.Entity entity, double double_1, CallbackInfoReturnable<Boolean> cir) {
-        if (VulkanModExtra.CONFIG != null && !VulkanModExtra.CONFIG.renderSettings.itemFrameNameTag && entity instanceof net.minecraft.entity.decoration.ItemFrameEntity) {
+    private void controlNameTag(ItemFrameEntity entity, double distance, CallbackInfoReturnable<Boolean> cir) {
+        if (!NameTagDecision.shouldShowLabel(entity, distance)) {
             cir.setReturnValue(false);
         }
     }
@@ -1,6 +1,7 @@
 package com.criticalrange.mixins.render;
 
 import com.criticalrange.VulkanModExtra;
+import com.criticalrange.optimization.nametag.NameTagDecision;
 import net.minecraft.client.render.entity.ArmorStandEntityRenderer;
 import net.minecraft.client.render.entity.state.ArmorStandEntityRenderState;
 import net.minecraft.client.util.math.MatrixStack;
@@ -32,11 +33,11 @@ public class MixinArmorStandEntityRenderer {
     }
 
     /**
-     * 1.21.3: hasLabel method with ArmorStandEntity parameter and distance
+     * Armor stand name tag: hasLabel(ArmorStandEntity, double), routed through the shared name tag decision
      */
     @Inject(method = "hasLabel(Lnet/minecraft/entity/decoration/ArmorStandEntity;D)Z", at = @At("HEAD"), cancellable = true)
     private void vulkanmodExtra$controlArmorStandLabel(ArmorStandEntity entity, double distance, CallbackInfoReturnable<Boolean> cir) {
-        if (VulkanModExtra.CONFIG != null && VulkanModExtra.CONFIG.renderSettings != null && !VulkanModExtra.CONFIG.renderSettings.armorStandNameTag) {
+        if (!NameTagDecision.shouldShowLabel(entity, distance)) {
             cir.setReturnValue(false);
         }
     }
@@ -1,10 +1,12 @@
 package com.criticalrange.mixins.render;
 
 import com.criticalrange.VulkanModExtra;
+import com.criticalrange.optimization.nametag.NameTagDecision;
 import net.minecraft.client.render.entity.ItemFrameEntityRenderer;
 import net.minecraft.client.render.entity.state.ItemFrameEntityRenderState;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.entity.decoration.ItemFrameEntity;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -33,16 +35,12 @@ public class MixinItemFrameRenderer {
     }
 
     /**
-     * Universal: hasLabel method (works across all versions)
-     * For 1.21.1: hasLabel(ItemFrameEntity)
-     * For 1.21.2+: hasLabel() with no parameters
+     * Item frame name tag: hasLabel(ItemFrameEntity, double), routed through the shared name tag decision
      */
-    @Inject(method = "hasLabel", at = @At("HEAD"), cancellable = true, require = 0)
-    private void vulkanmodExtra$controlNameTag(CallbackInfoReturnable<Boolean> cir) {
-        if (VulkanModExtra.CONFIG != null && VulkanModExtra.CONFIG.renderSettings != null) {
-            if (!VulkanModExtra.CONFIG.renderSettings.itemFrameNameTag) {
-                cir.setReturnValue(false);
-            }
+    @Inject(method = "hasLabel(Lnet/minecraft/entity/decoration/ItemFrameEntity;D)Z", at = @At("HEAD"), cancellable = true, require = 0)
+    private void vulkanmodExtra$controlNameTag(ItemFrameEntity entity, double distance, CallbackInfoReturnable<Boolean> cir) {
+        if (!NameTagDecision.shouldShowLabel(entity, distance)) {
+            cir.setReturnValue(false);
         }
     }
 }
\ No newline at end of file
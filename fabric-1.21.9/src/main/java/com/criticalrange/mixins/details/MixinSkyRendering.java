@@ -0,0 +1,48 @@
+package com.criticalrange.mixins.details;
+
+import com.criticalrange.VulkanModExtra;
+import net.minecraft.client.render.SkyRendering;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Individual sky element control for the SkyRendering class introduced in 1.21.2
+ * Each element has its own method, so every toggle is a single targeted injection
+ */
+@Mixin(SkyRendering.class)
+public class MixinSkyRendering {
+
+    @Inject(method = "renderTopSky", at = @At("HEAD"), cancellable = true, require = 0)
+    private void vulkanmodExtra$controlSkyGradient(CallbackInfo ci) {
+        if (VulkanModExtra.CONFIG != null && VulkanModExtra.CONFIG.detailSettings != null
+            && !VulkanModExtra.CONFIG.detailSettings.skyGradient) {
+            ci.cancel();
+        }
+    }
+
+    @Inject(method = "renderSun", at = @At("HEAD"), cancellable = true, require = 0)
+    private void vulkanmodExtra$controlSun(CallbackInfo ci) {
+        if (VulkanModExtra.CONFIG != null && VulkanModExtra.CONFIG.detailSettings != null
+            && !VulkanModExtra.CONFIG.detailSettings.sun) {
+            ci.cancel();
+        }
+    }
+
+    @Inject(method = "renderMoon", at = @At("HEAD"), cancellable = true, require = 0)
+    private void vulkanmodExtra$controlMoon(CallbackInfo ci) {
+        if (VulkanModExtra.CONFIG != null && VulkanModExtra.CONFIG.detailSettings != null
+            && !VulkanModExtra.CONFIG.detailSettings.moon) {
+            ci.cancel();
+        }
+    }
+
+    @Inject(method = "renderStars", at = @At("HEAD"), cancellable = true, require = 0)
+    private void vulkanmodExtra$controlStars(CallbackInfo ci) {
+        if (VulkanModExtra.CONFIG != null && VulkanModExtra.CONFIG.detailSettings != null
+            && !VulkanModExtra.CONFIG.detailSettings.stars) {
+            ci.cancel();
+        }
+    }
+}